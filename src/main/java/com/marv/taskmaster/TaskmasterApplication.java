@@ -2,10 +2,12 @@ package com.marv.taskmaster;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@EnableRetry // runs outside @Transactional, so every attempt gets a fresh transaction
 public class TaskmasterApplication {
 
     public static void main(String[] args) {
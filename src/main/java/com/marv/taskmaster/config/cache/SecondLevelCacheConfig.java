@@ -0,0 +1,83 @@
+package com.marv.taskmaster.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Regions of the Hibernate second-level cache, held in-process by Caffeine (through JCache).
+ * <p>
+ * Every region is created here with its size and TTL from application.yaml; Hibernate is set
+ * to fail on any region it cannot find, so a typo in a region name shows up at startup.
+ * <p>
+ * Each instance has its own copy and nothing invalidates it across nodes, so only data that
+ * practically never changes is cached: users, which nothing updates after signup, and their
+ * email natural id. A write evicts the entry on the node that made it; other nodes see it
+ * once their copy expires after users.cache.ttl. Projects are not cached: their task counters change
+ * with every task write, and those bulk UPDATEs would evict the region all the time.
+ * The query cache is off, so no query results or update timestamps are kept.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    // Entity region (@Cache on the entity)
+    public static final String USERS_REGION = "users";
+
+    // Natural-id region (@NaturalIdCache on the entity): email -> user id
+    public static final String USERS_BY_EMAIL_REGION = "users.by-email";
+
+    @Value("${users.cache.max-size:10000}")
+    private long usersMaxSize;
+
+    @Value("${users.cache.ttl:5m}")
+    private Duration usersTtl;
+
+    // A manager of our own rather than the provider's JVM-wide default one, so a second
+    // application context (e.g. another test configuration) gets fresh regions; closed with the context
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        URI uri = URI.create("taskmaster-hibernate-" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        createRegion(cacheManager, USERS_REGION, usersMaxSize, usersTtl);
+        createRegion(cacheManager, USERS_BY_EMAIL_REGION, usersMaxSize, usersTtl);
+
+        log.info("Second-level cache regions created: users={}/{}", usersMaxSize, usersTtl);
+        return cacheManager;
+    }
+
+    // Hands the configured manager to hibernate-jcache instead of letting it create its own
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // --- Private Helpers ---
+
+    // 0 / ZERO = unbounded / no expiry
+    private void createRegion(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (!ttl.isZero()) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -1,6 +1,9 @@
 package com.marv.taskmaster.config.jwt;
 
+import com.marv.taskmaster.models.security.CustomUserDetails;
 import com.marv.taskmaster.services.JwtService;
+import com.marv.taskmaster.services.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +27,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -41,12 +46,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // Verified once here and reused below (repeat tokens are served from JwtService's cache)
+        Claims claims = jwtService.verifyToken(jwt);
+        userEmail = claims.getSubject();
+
+        // In-memory deny-list check, no database round trip
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            UserDetails userDetails = resolveUserDetails(claims);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (jwtService.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -60,4 +73,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolveUserDetails(Claims claims) {
+        // Tokens carrying identity claims need no database round trip
+        Optional<CustomUserDetails> principal = jwtService.extractPrincipal(claims);
+        if (principal.isPresent()) {
+            return principal.get();
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.marv.taskmaster.controllers;
 
 import com.marv.taskmaster.models.dto.request.auth.LoginRequest;
+import com.marv.taskmaster.models.dto.request.auth.RefreshTokenRequest;
 import com.marv.taskmaster.models.dto.request.auth.SignupRequest;
 import com.marv.taskmaster.models.dto.response.auth.LoginResponse;
 import com.marv.taskmaster.models.dto.response.auth.SignupResponse;
@@ -15,10 +16,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -80,4 +83,50 @@ public class AuthController {
                 BaseResponse.success(data, "Login successful")
         );
     }
+
+    /* ================================================================
+     * POST /api/v1/auth/refresh
+     * Exchange a refresh token for a new access token
+     * Public access
+     * ================================================================ */
+    @Operation(summary = "Refresh Token", description = "Rotates the refresh token and returns a new short-lived JWT.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token refreshed successfully"),
+
+            @ApiResponse(responseCode = "400", description = "Invalid, expired or revoked refresh token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<BaseResponse<LoginResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        LoginResponse data = authService.refresh(request);
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Token refreshed successfully")
+        );
+    }
+
+    /* ================================================================
+     * POST /api/v1/auth/logout
+     * Revoke a refresh token
+     * Public access
+     * ================================================================ */
+    @Operation(summary = "Logout", description = "Revokes the given refresh token and the bearer access token, if one is sent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Logout successful"),
+
+            @ApiResponse(responseCode = "400", description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<BaseResponse<Void>> logout(
+            @Valid @RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        authService.logout(request, accessToken);
+        return ResponseEntity.ok(
+                BaseResponse.success(null, "Logout successful")
+        );
+    }
 }
\ No newline at end of file
@@ -6,8 +6,10 @@ import com.marv.taskmaster.models.dto.request.project.UpdateProjectRequest;
 import com.marv.taskmaster.models.dto.response.generic.BaseResponse;
 import com.marv.taskmaster.models.dto.response.generic.PagedData;
 import com.marv.taskmaster.models.dto.response.project.ProjectResponse;
+import com.marv.taskmaster.models.enums.PageTotalMode;
 import com.marv.taskmaster.services.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -62,7 +64,7 @@ public class ProjectController {
      * GET /api/v1/projects
      * Get all projects (Paged)
      * ================================================================ */
-    @Operation(summary = "Get all projects", description = "Retrieves paged list of projects for the logged-in user.")
+    @Operation(summary = "Get all projects", description = "Retrieves paged list of projects for the logged-in user, with per-status task counts. Use fields= to return only selected columns.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Projects retrieved successfully"),
 
@@ -71,12 +73,21 @@ public class ProjectController {
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<BaseResponse<PagedData<ProjectResponse>>> getMyProjects(
+    public ResponseEntity<BaseResponse<PagedData<?>>> getMyProjects(
             @ParameterObject
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
-
-        PagedData<ProjectResponse> data = projectService.getMyProjects(pageable);
+            Pageable pageable,
+            @Parameter(description = "Total reporting: EXACT (count every request), CACHED (recent count) or NONE (hasNext only)")
+            @RequestParam(defaultValue = "EXACT") PageTotalMode total,
+            @Parameter(description = "Embed each project's full task list (default: task counts only)")
+            @RequestParam(defaultValue = "false") boolean includeTasks,
+            @Parameter(description = "Comma separated fields to return, e.g. id,name,status,taskCounts (default: all)")
+            @RequestParam(required = false) String fields) {
+
+        // Sparse fieldset: only the requested columns are read and serialized
+        PagedData<?> data = fields != null
+                ? projectService.getMyProjectFields(fields, pageable, total)
+                : projectService.getMyProjects(pageable, total, includeTasks);
         return ResponseEntity.ok(
                 BaseResponse.success(data, "Projects retrieved successfully")
         );
@@ -95,8 +106,11 @@ public class ProjectController {
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/{projectId}")
-    public ResponseEntity<BaseResponse<ProjectResponse>> getProjectById(@PathVariable UUID projectId) {
-        ProjectResponse data = projectService.getProjectById(projectId);
+    public ResponseEntity<BaseResponse<ProjectResponse>> getProjectById(
+            @PathVariable UUID projectId,
+            @Parameter(description = "Embed the full task list (default: task counts only; use the paged task endpoint instead)")
+            @RequestParam(defaultValue = "false") boolean includeTasks) {
+        ProjectResponse data = projectService.getProjectById(projectId, includeTasks);
         return ResponseEntity.ok(
                 BaseResponse.success(data, "Project retrieved successfully")
         );
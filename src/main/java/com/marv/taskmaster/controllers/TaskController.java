@@ -2,13 +2,25 @@ package com.marv.taskmaster.controllers;
 
 import com.marv.taskmaster.models.docs.ErrorResponse;
 import com.marv.taskmaster.models.dto.request.task.AssignTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.BulkAssignTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.BulkCreateTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.BulkTaskIdsRequest;
 import com.marv.taskmaster.models.dto.request.task.CreateTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.TaskFilterRequest;
 import com.marv.taskmaster.models.dto.request.task.UpdateTaskRequest;
 import com.marv.taskmaster.models.dto.response.generic.BaseResponse;
+import com.marv.taskmaster.models.dto.response.generic.CursorPage;
 import com.marv.taskmaster.models.dto.response.task.AssignedTaskResponse;
+import com.marv.taskmaster.models.dto.response.task.BulkOperationResponse;
+import com.marv.taskmaster.models.dto.response.task.TaskImportResponse;
 import com.marv.taskmaster.models.dto.response.task.TaskResponse;
+import com.marv.taskmaster.models.enums.PageTotalMode;
+import com.marv.taskmaster.models.enums.TaskFileFormat;
 import com.marv.taskmaster.services.TaskService;
+import com.marv.taskmaster.services.transfer.TaskExportService;
+import com.marv.taskmaster.services.transfer.TaskImportService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,7 +28,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +38,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import com.marv.taskmaster.models.dto.response.generic.PagedData;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,12 +53,15 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
 
     /* ================================================================
      * GET /api/v1/projects/{projectId}/tasks
      * Get All Tasks (Paged)
      * ================================================================ */
-    @Operation(summary = "Get All Tasks", description = "Retrieves paged list of tasks for a specific project.")
+    @Operation(summary = "Get All Tasks", description = "Retrieves paged list of tasks for a specific project. " +
+            "Optionally filtered by status, assignee, due-date range and overdue. Use fields= to return only selected columns.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Project not found",
@@ -48,13 +69,21 @@ public class TaskController {
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<BaseResponse<PagedData<TaskResponse>>> getTasks(
+    public ResponseEntity<BaseResponse<PagedData<?>>> getTasks(
             @PathVariable UUID projectId,
             @ParameterObject
             @PageableDefault(size = 20, sort = "dueDate", direction = Sort.Direction.ASC) // Default: Due soonest first
-            Pageable pageable) {
-
-        PagedData<TaskResponse> data = taskService.getTasksByProject(projectId, pageable);
+            Pageable pageable,
+            @ParameterObject TaskFilterRequest filter,
+            @Parameter(description = "Total reporting: EXACT (count every request), CACHED (recent count) or NONE (hasNext only)")
+            @RequestParam(defaultValue = "EXACT") PageTotalMode total,
+            @Parameter(description = "Comma separated fields to return, e.g. id,title,status,dueDate (default: all)")
+            @RequestParam(required = false) String fields) {
+
+        // Sparse fieldset: only the requested columns are read and serialized
+        PagedData<?> data = fields != null
+                ? taskService.getTaskFieldsByProject(projectId, filter, fields, pageable, total)
+                : taskService.getTasksByProject(projectId, filter, pageable, total);
 
         return ResponseEntity.ok(
                 BaseResponse.success(data, "Tasks retrieved successfully")
@@ -88,7 +117,7 @@ public class TaskController {
      * GET /api/v1/tasks/assigned
      * Get All Tasks Assigned to Me (With Project Context)
      * ================================================================ */
-    @Operation(summary = "Get Assigned Tasks", description = "Retrieves all tasks assigned to the logged-in user across all projects, including project names.")
+    @Operation(summary = "Get Assigned Tasks", description = "Retrieves all tasks assigned to the logged-in user across all projects, including project names. Use fields= to return only selected columns.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
             @ApiResponse(responseCode = "500", description = "Internal Server Error",
@@ -96,12 +125,157 @@ public class TaskController {
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/assigned")
-    public ResponseEntity<BaseResponse<PagedData<AssignedTaskResponse>>> getMyAssignedTasks(
+    public ResponseEntity<BaseResponse<PagedData<?>>> getMyAssignedTasks(
             @ParameterObject
             @PageableDefault(size = 20, sort = "dueDate", direction = Sort.Direction.ASC)
-            Pageable pageable) {
+            Pageable pageable,
+            @Parameter(description = "Total reporting: EXACT (count every request), CACHED (recent count) or NONE (hasNext only)")
+            @RequestParam(defaultValue = "EXACT") PageTotalMode total,
+            @Parameter(description = "Comma separated fields to return, e.g. id,title,status,dueDate (default: all)")
+            @RequestParam(required = false) String fields) {
 
-        PagedData<AssignedTaskResponse> data = taskService.getMyAssignedTasks(pageable);
+        PagedData<?> data = fields != null
+                ? taskService.getMyAssignedTaskFields(fields, pageable, total)
+                : taskService.getMyAssignedTasks(pageable, total);
+
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Assigned tasks retrieved successfully")
+        );
+    }
+
+    /* ================================================================
+     * GET /api/v1/projects/{projectId}/tasks/scroll
+     * Scroll Tasks (Keyset / Cursor)
+     * ================================================================ */
+    @Operation(summary = "Scroll Tasks", description = "Retrieves tasks in creation order using an opaque cursor. Deep pages cost the same as the first one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<BaseResponse<CursorPage<TaskResponse>>> scrollTasks(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPage<TaskResponse> data = taskService.scrollTasksByProject(projectId, cursor, size);
+
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Tasks retrieved successfully")
+        );
+    }
+
+    /* ================================================================
+     * GET /api/v1/projects/{projectId}/tasks/search
+     * Search Tasks (Full Text)
+     * ================================================================ */
+    @Operation(summary = "Search Tasks", description = "Finds tasks of the project whose title or description contain every word of the query, newest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<List<TaskResponse>>> searchTasks(
+            @PathVariable UUID projectId,
+            @Parameter(description = "Words to look for (all must match)")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (up to 100)")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        List<TaskResponse> data = taskService.searchTasks(projectId, q, limit);
+
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Tasks retrieved successfully")
+        );
+    }
+
+    /* ================================================================
+     * GET /api/v1/projects/{projectId}/tasks/export
+     * Export Tasks (Streaming NDJSON / CSV)
+     * ================================================================ */
+    @Operation(summary = "Export Tasks", description = "Streams every task of the project as NDJSON (one JSON object per line) or CSV, " +
+            "in creation order. The response is written row by row, so it starts immediately regardless of project size.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started"),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable UUID projectId,
+            @Parameter(description = "NDJSON (default) or CSV")
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format) {
+
+        StreamingResponseBody body = taskExportService.exportTasks(projectId, format);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks-" + projectId + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    /* ================================================================
+     * POST /api/v1/projects/{projectId}/tasks/import
+     * Import Tasks (Streaming NDJSON / CSV upload)
+     * ================================================================ */
+    @Operation(summary = "Import Tasks", description = "Creates tasks from an uploaded NDJSON or CSV file (same columns as the export: " +
+            "title, description, dueDate, assigneeId or assigneeEmail). Past due dates are accepted, so an export file " +
+            "can be imported as-is. Invalid rows are skipped and reported; valid rows are " +
+            "committed in batches, so rows imported before a failure stay imported.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished (see the per-row errors)"),
+
+            @ApiResponse(responseCode = "400", description = "Unreadable file or missing CSV header",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BaseResponse<TaskImportResponse>> importTasks(
+            @PathVariable UUID projectId,
+            @Parameter(description = "NDJSON (default) or CSV")
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            @RequestParam("file") MultipartFile file) throws IOException {
+
+        TaskImportResponse data;
+        try (InputStream input = file.getInputStream()) {
+            data = taskImportService.importTasks(projectId, format, input);
+        }
+
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Import finished")
+        );
+    }
+
+    /* ================================================================
+     * GET /api/v1/tasks/assigned/scroll
+     * Scroll Tasks Assigned to Me (Keyset / Cursor)
+     * ================================================================ */
+    @Operation(summary = "Scroll Assigned Tasks", description = "Retrieves tasks assigned to the logged-in user in creation order using an opaque cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/assigned/scroll")
+    public ResponseEntity<BaseResponse<CursorPage<AssignedTaskResponse>>> scrollMyAssignedTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPage<AssignedTaskResponse> data = taskService.scrollMyAssignedTasks(cursor, size);
 
         return ResponseEntity.ok(
                 BaseResponse.success(data, "Assigned tasks retrieved successfully")
@@ -136,6 +310,34 @@ public class TaskController {
         );
     }
 
+    /* ================================================================
+     * POST /api/v1/projects/{projectId}/tasks/bulk
+     * Bulk Create Tasks
+     * ================================================================ */
+    @Operation(summary = "Bulk Create Tasks", description = "Adds up to 1000 tasks to the specified project in a single request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tasks created successfully"),
+
+            @ApiResponse(responseCode = "400", description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+
+            @ApiResponse(responseCode = "404", description = "Project or Assignee not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BaseResponse<List<TaskResponse>>> createTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkCreateTaskRequest request) {
+
+        List<TaskResponse> data = taskService.createTasks(projectId, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+                BaseResponse.success(data, "Tasks created successfully")
+        );
+    }
+
     /* ================================================================
      * PATCH /api/v1/projects/{projectId}/tasks/{taskId}/assign
      * Assign or Reassign Task
@@ -242,6 +444,90 @@ public class TaskController {
         );
     }
 
+    /* ================================================================
+     * POST /api/v1/projects/{projectId}/tasks/bulk/complete
+     * Bulk Mark Tasks Done
+     * ================================================================ */
+    @Operation(summary = "Bulk Mark Tasks Done", description = "Marks the listed tasks as COMPLETED. Auto-closes project if no open tasks remain.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks completed successfully"),
+
+            @ApiResponse(responseCode = "400", description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/bulk/complete")
+    public ResponseEntity<BaseResponse<BulkOperationResponse>> completeTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkTaskIdsRequest request) {
+
+        BulkOperationResponse data = taskService.completeTasks(projectId, request.getTaskIds());
+
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Tasks completed successfully")
+        );
+    }
+
+    /* ================================================================
+     * POST /api/v1/projects/{projectId}/tasks/bulk/cancel
+     * Bulk Cancel Tasks
+     * ================================================================ */
+    @Operation(summary = "Bulk Cancel Tasks", description = "Sets the listed tasks to CANCELLED.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks cancelled successfully"),
+
+            @ApiResponse(responseCode = "400", description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/bulk/cancel")
+    public ResponseEntity<BaseResponse<BulkOperationResponse>> cancelTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkTaskIdsRequest request) {
+
+        BulkOperationResponse data = taskService.cancelTasks(projectId, request.getTaskIds());
+
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Tasks cancelled successfully")
+        );
+    }
+
+    /* ================================================================
+     * POST /api/v1/projects/{projectId}/tasks/bulk/assign
+     * Bulk Assign Tasks
+     * ================================================================ */
+    @Operation(summary = "Bulk Assign Tasks", description = "Assigns the listed tasks to a specific user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks assigned successfully"),
+
+            @ApiResponse(responseCode = "400", description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+
+            @ApiResponse(responseCode = "404", description = "User not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/bulk/assign")
+    public ResponseEntity<BaseResponse<BulkOperationResponse>> assignTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkAssignTaskRequest request) {
+
+        BulkOperationResponse data = taskService.assignTasks(projectId, request);
+
+        return ResponseEntity.ok(
+                BaseResponse.success(data, "Tasks assigned successfully")
+        );
+    }
+
     /* ================================================================
      * DELETE /api/v1/projects/{projectId}/tasks
      * Bulk Delete Tasks
@@ -259,14 +545,14 @@ public class TaskController {
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @DeleteMapping
-    public ResponseEntity<BaseResponse<Void>> deleteTasks(
+    public ResponseEntity<BaseResponse<BulkOperationResponse>> deleteTasks(
             @PathVariable UUID projectId,
             @RequestBody List<UUID> taskIds) {
 
-        taskService.deleteTasks(projectId, taskIds);
+        BulkOperationResponse data = taskService.deleteTasks(projectId, taskIds);
 
         return ResponseEntity.ok(
-                BaseResponse.success(null, "Tasks deleted successfully")
+                BaseResponse.success(data, "Tasks deleted successfully")
         );
     }
 }
\ No newline at end of file
@@ -3,10 +3,11 @@ package com.marv.taskmaster.controllers;
 import com.marv.taskmaster.models.dto.response.generic.PagedData;
 import com.marv.taskmaster.models.dto.response.generic.BaseResponse;
 import com.marv.taskmaster.models.dto.response.user.UserDetailResponse;
-import com.marv.taskmaster.models.dto.response.user.UsersResponse;
 import com.marv.taskmaster.models.docs.ErrorResponse;
+import com.marv.taskmaster.models.enums.PageTotalMode;
 import com.marv.taskmaster.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -34,7 +35,7 @@ public class UserController {
      * GET /api/v1/users
      * Get all users (Paged)
      * ================================================================ */
-    @Operation(summary = "Get all users", description = "Retrieves a paginated list of all registered users.")
+    @Operation(summary = "Get all users", description = "Retrieves a paginated list of all registered users. Use fields= to return only selected columns.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
 
@@ -43,12 +44,19 @@ public class UserController {
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<BaseResponse<PagedData<UsersResponse>>> getAllUsers(
+    public ResponseEntity<BaseResponse<PagedData<?>>> getAllUsers(
             @ParameterObject
             @PageableDefault(size = 10,sort = "createdAt",
-                    direction = Sort.Direction.DESC) Pageable pageable) {
+                    direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "Total reporting: EXACT (count every request), CACHED (recent count) or NONE (hasNext only)")
+            @RequestParam(defaultValue = "EXACT") PageTotalMode total,
+            @Parameter(description = "Comma separated fields to return, e.g. id,firstname,lastname (default: all)")
+            @RequestParam(required = false) String fields) {
 
-        PagedData<UsersResponse> data = userService.getAllUsers(pageable);
+        // Sparse fieldset: only the requested columns are read and serialized
+        PagedData<?> data = fields != null
+                ? userService.getAllUserFields(fields, pageable, total)
+                : userService.getAllUsers(pageable, total);
 
         return ResponseEntity.ok(
                 BaseResponse.success(data, "Users retrieved successfully")
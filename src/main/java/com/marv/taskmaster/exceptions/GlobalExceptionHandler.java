@@ -5,12 +5,15 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j; // <--- 1. Use Logger
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice; // <--- 2. Cleaner annotation
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.stream.Collectors;
 
@@ -53,6 +56,16 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // Concurrent Modification (409) - still conflicting after the service-level retries
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<BaseResponse<String>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Optimistic lock conflict persisted after retries: {}", ex.getMessage());
+        return new ResponseEntity<>(
+                BaseResponse.error("The resource was modified concurrently, please retry"),
+                HttpStatus.CONFLICT
+        );
+    }
+
     // Bad Arguments (400)
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<BaseResponse<String>> handleArgumentException(IllegalArgumentException ex) {
@@ -71,6 +84,23 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // Overloaded (429)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<BaseResponse<String>> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(BaseResponse.error(ex.getMessage()));
+    }
+
+    // Upload larger than spring.servlet.multipart.max-file-size (413)
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<BaseResponse<String>> handleMaxUploadSize(MaxUploadSizeExceededException ex) {
+        return new ResponseEntity<>(
+                BaseResponse.error("Uploaded file is too large"),
+                HttpStatus.PAYLOAD_TOO_LARGE
+        );
+    }
+
     // Fallback (500)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<BaseResponse<String>> handleGeneral(Exception ex) {
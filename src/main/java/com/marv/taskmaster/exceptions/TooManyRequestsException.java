@@ -0,0 +1,12 @@
+package com.marv.taskmaster.exceptions;
+
+/**
+ * Thrown when a bounded resource (e.g. the password hashing pool) is saturated.
+ * Mapped to 429 by the GlobalExceptionHandler so callers back off instead of queueing.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
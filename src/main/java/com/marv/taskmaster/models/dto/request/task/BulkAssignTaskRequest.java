@@ -0,0 +1,17 @@
+package com.marv.taskmaster.models.dto.request.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkAssignTaskRequest {
+    @NotEmpty(message = "At least one task ID is required")
+    private List<UUID> taskIds;
+
+    @NotNull(message = "Assignee ID is required")
+    private UUID assigneeId;
+}
@@ -0,0 +1,15 @@
+package com.marv.taskmaster.models.dto.request.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkCreateTaskRequest {
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "A maximum of 1000 tasks can be created per request")
+    private List<@Valid CreateTaskRequest> tasks;
+}
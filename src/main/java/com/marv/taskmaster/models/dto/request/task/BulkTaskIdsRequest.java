@@ -0,0 +1,13 @@
+package com.marv.taskmaster.models.dto.request.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkTaskIdsRequest {
+    @NotEmpty(message = "At least one task ID is required")
+    private List<UUID> taskIds;
+}
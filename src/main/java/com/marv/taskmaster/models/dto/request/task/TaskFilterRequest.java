@@ -0,0 +1,35 @@
+package com.marv.taskmaster.models.dto.request.task;
+
+import com.marv.taskmaster.models.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Optional query filters of the task list; unset fields don't filter
+@Data
+public class TaskFilterRequest {
+
+    @Parameter(description = "Only tasks in this status")
+    private TaskStatus status;
+
+    @Parameter(description = "Only tasks assigned to this user")
+    private UUID assigneeId;
+
+    @Parameter(description = "Due on or after (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @Parameter(description = "Due before (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    @Parameter(description = "true = only overdue tasks, false = only tasks that are not overdue")
+    private Boolean overdue;
+
+    public boolean hasFilters() {
+        return status != null || assigneeId != null || dueFrom != null || dueTo != null || overdue != null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.marv.taskmaster.models.dto.request.task;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of a task import file (CSV column or NDJSON property names).
+ * Same fields as {@link CreateTaskRequest}, except that a past due date is accepted,
+ * so overdue or finished tasks from an export file can be loaded back. The assignee can
+ * be given by ID or by email; other columns (e.g. those of an export file) are ignored.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TaskImportRow {
+    @NotBlank(message = "Title is required")
+    private String title;
+
+    private String description;
+
+    private LocalDateTime dueDate; // May be in the past
+
+    private UUID assigneeId;
+
+    private String assigneeEmail;
+}
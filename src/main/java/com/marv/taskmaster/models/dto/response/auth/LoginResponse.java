@@ -9,5 +9,7 @@ import lombok.Data;
 public class LoginResponse {
     private String token;
     private Long expiresIn;
+    private String refreshToken;
+    private Long refreshExpiresIn;
     private UserDetailResponse user;
-}
\ No newline at end of file
+}
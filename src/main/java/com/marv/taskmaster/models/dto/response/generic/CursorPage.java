@@ -0,0 +1,19 @@
+package com.marv.taskmaster.models.dto.response.generic;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated slice of a list. Pass nextCursor back to get the following page;
+ * every page costs the same regardless of how deep it is.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int pageSize;
+    private boolean hasNext;
+    private String nextCursor; // null on the last page
+}
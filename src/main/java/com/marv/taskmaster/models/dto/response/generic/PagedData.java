@@ -2,6 +2,7 @@ package com.marv.taskmaster.models.dto.response.generic;
 
 import lombok.Data;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -10,8 +11,9 @@ public class PagedData<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements; // null when the caller opted out of counting
+    private Integer totalPages;
+    private boolean hasNext;
     private boolean last;
 
     // Constructor that takes a Spring 'Page' object and extracts metadata
@@ -21,6 +23,19 @@ public class PagedData<T> {
         this.pageSize = page.getSize();
         this.totalElements = page.getTotalElements();
         this.totalPages = page.getTotalPages();
+        this.hasNext = page.hasNext();
         this.last = page.isLast();
     }
-}
\ No newline at end of file
+
+    // Count-free variant: a 'Slice' only knows whether another page exists.
+    // totalElements may still be supplied from a cached/approximate count.
+    public PagedData(Slice<T> slice, Long totalElements) {
+        this.content = slice.getContent();
+        this.pageNumber = slice.getNumber() + 1;
+        this.pageSize = slice.getSize();
+        this.totalElements = totalElements;
+        this.totalPages = totalElements == null ? null : (int) Math.ceil((double) totalElements / slice.getSize());
+        this.hasNext = slice.hasNext();
+        this.last = !slice.hasNext();
+    }
+}
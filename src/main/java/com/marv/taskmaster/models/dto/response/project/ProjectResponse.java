@@ -1,5 +1,6 @@
 package com.marv.taskmaster.models.dto.response.project;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.marv.taskmaster.models.dto.response.task.TaskResponse;
 import com.marv.taskmaster.models.enums.ProjectStatus;
 import lombok.Builder;
@@ -17,6 +18,11 @@ public class ProjectResponse {
     private String description;
     private ProjectStatus status;
 
+    // Per-status summary, always present
+    private TaskCountsResponse taskCounts;
+
+    // Only filled when explicitly requested (includeTasks=true); otherwise omitted from the JSON
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<TaskResponse> tasks;
 
     private LocalDateTime createdAt;
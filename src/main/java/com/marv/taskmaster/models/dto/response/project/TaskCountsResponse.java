@@ -0,0 +1,16 @@
+package com.marv.taskmaster.models.dto.response.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class TaskCountsResponse {
+    private long pending;
+    private long inProgress;
+    private long completed;
+    private long cancelled;
+    private long total;
+}
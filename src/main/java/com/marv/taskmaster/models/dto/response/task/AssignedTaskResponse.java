@@ -1,5 +1,7 @@
 package com.marv.taskmaster.models.dto.response.task;
 
+import com.marv.taskmaster.models.enums.TaskStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
@@ -7,6 +9,7 @@ import java.util.UUID;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class AssignedTaskResponse {
     // Task Details
     private UUID id;
@@ -23,4 +26,12 @@ public class AssignedTaskResponse {
     // Project Context
     private UUID projectId;
     private String projectName;
-}
\ No newline at end of file
+
+    // Used by the JPQL constructor projections in TaskRepository
+    public AssignedTaskResponse(UUID id, String title, String description, TaskStatus status, LocalDateTime dueDate,
+                                boolean isOverdue, UUID assigneeId, String assigneeFirstname, String assigneeLastname,
+                                UUID projectId, String projectName) {
+        this(id, title, description, status.name(), dueDate, isOverdue, assigneeId,
+                assigneeFirstname + " " + assigneeLastname, projectId, projectName);
+    }
+}
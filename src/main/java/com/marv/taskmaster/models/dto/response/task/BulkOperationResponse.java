@@ -0,0 +1,11 @@
+package com.marv.taskmaster.models.dto.response.task;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkOperationResponse {
+    private int requested; // distinct task IDs in the request
+    private int affected;  // rows actually changed (IDs outside the project or already in the target state are skipped)
+}
@@ -0,0 +1,24 @@
+package com.marv.taskmaster.models.dto.response.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TaskImportResponse {
+    private long totalRows;       // data rows read from the file (blank lines excluded)
+    private long imported;        // tasks created
+    private long failed;          // rows rejected (see errors)
+    private List<RowError> errors; // first rejected rows only, capped by tasks.import.max-errors
+    private boolean errorsTruncated;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -1,5 +1,7 @@
 package com.marv.taskmaster.models.dto.response.task;
 
+import com.marv.taskmaster.models.enums.TaskStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
@@ -7,6 +9,7 @@ import java.util.UUID;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class TaskResponse {
     private UUID id;
     private String title;
@@ -16,4 +19,11 @@ public class TaskResponse {
     private boolean isOverdue;
     private UUID assigneeId;
     private String assigneeName;
-}
\ No newline at end of file
+
+    // Used by the JPQL constructor projections in TaskRepository (assignee columns come from a LEFT JOIN)
+    public TaskResponse(UUID id, String title, String description, TaskStatus status, LocalDateTime dueDate,
+                        boolean isOverdue, UUID assigneeId, String assigneeFirstname, String assigneeLastname) {
+        this(id, title, description, status.name(), dueDate, isOverdue, assigneeId,
+                assigneeId != null ? assigneeFirstname + " " + assigneeLastname : null);
+    }
+}
@@ -3,10 +3,20 @@ package com.marv.taskmaster.models.entities;
 import com.marv.taskmaster.models.enums.ProjectStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.util.List;
 
+// Deliberately not in the second-level cache: every task write bulk-updates the task counters
+// below, and a JPQL bulk update evicts the whole entity region, so entries would rarely survive
 @Entity
 @Table(name = "projects")
+// Fetch plan for the single-project view: project + tasks + each task's assignee in one statement
+@NamedEntityGraph(
+        name = "Project.withTasksAndAssignees",
+        attributeNodes = @NamedAttributeNode(value = "tasks", subgraph = "tasks"),
+        subgraphs = @NamedSubgraph(name = "tasks", attributeNodes = @NamedAttributeNode("assignee"))
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,4 +39,25 @@ public class Project extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
     private ProjectStatus status = ProjectStatus.IN_PROGRESS;
+
+    /*
+     * Denormalized task counts per status, so auto-completion never has to count the tasks table.
+     * Only ever changed through atomic UPDATEs in ProjectRepository (same transaction as the task
+     * write); updatable = false keeps a stale entity from overwriting them when it is saved.
+     */
+    @ColumnDefault("0")
+    @Column(name = "pending_tasks", nullable = false, updatable = false)
+    private long pendingTasks = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "in_progress_tasks", nullable = false, updatable = false)
+    private long inProgressTasks = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_tasks", nullable = false, updatable = false)
+    private long completedTasks = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "cancelled_tasks", nullable = false, updatable = false)
+    private long cancelledTasks = 0;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.marv.taskmaster.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Opaque refresh token handed out at login.
+ * Only the SHA-256 digest is stored; the unique constraint on it doubles as the lookup index.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class RefreshToken extends BaseEntity {
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // The User this session belongs to
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Set once the token has been rotated or logged out
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
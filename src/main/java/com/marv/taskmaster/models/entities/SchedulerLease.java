@@ -0,0 +1,28 @@
+package com.marv.taskmaster.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease row of a cluster-wide scheduled job.
+ * Whichever instance holds an unexpired lease is the one that runs the job.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class SchedulerLease extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String name;
+
+    @Column(name = "locked_by", length = 128)
+    private String lockedBy;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -7,7 +7,19 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Keyset pagination: (created_at, id) is the stable scroll order
+        @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_assignee_created", columnList = "assignee_id, created_at, id"),
+        // Overdue lookups: open statuses with a due date in the past
+        @Index(name = "idx_tasks_status_due", columnList = "status, due_date"),
+        // Task list filters (GET .../tasks?status=&assigneeId=&dueFrom=&dueTo=), one per filter column
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, status, due_date"),
+        @Index(name = "idx_tasks_project_assignee", columnList = "project_id, assignee_id, due_date"),
+        @Index(name = "idx_tasks_project_due", columnList = "project_id, due_date"),
+        // Search index sync: tasks changed since the last poll, on any instance
+        @Index(name = "idx_tasks_updated", columnList = "updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,12 +1,23 @@
 package com.marv.taskmaster.models.entities;
 
+import com.marv.taskmaster.config.cache.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.List;
 
 @Entity
 @Table(name = "app_users")
+// Read on nearly every request (login, legacy tokens, assignees) and, today, not changed after signup.
+// READ_WRITE keeps this node's entry consistent if a user is ever updated; other nodes keep
+// their own copy until it expires (users.cache.ttl), so that is the bound on cross-node staleness.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USERS_REGION)
+@NaturalIdCache(region = SecondLevelCacheConfig.USERS_BY_EMAIL_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,7 +30,10 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private String lastname;
 
-    @Column(unique = true, nullable = false)
+    // Login name; looked up through the natural-id cache (email -> id -> cached user).
+    // @NaturalId also declares the unique key on the column
+    @NaturalId
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
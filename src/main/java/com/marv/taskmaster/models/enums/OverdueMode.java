@@ -0,0 +1,11 @@
+package com.marv.taskmaster.models.enums;
+
+/**
+ * Where a task's overdue flag comes from.
+ * PERSISTED reads the is_overdue column kept up to date by the background jobs,
+ * COMPUTED derives it from due date and status at read time (no background writes).
+ */
+public enum OverdueMode {
+    PERSISTED,
+    COMPUTED
+}
@@ -0,0 +1,12 @@
+package com.marv.taskmaster.models.enums;
+
+/**
+ * How a paged list endpoint reports its total.
+ * EXACT runs a COUNT(*) per request, CACHED reuses a recent count, NONE skips it
+ * (the page is fetched as a Slice and only hasNext is reported).
+ */
+public enum PageTotalMode {
+    EXACT,
+    CACHED,
+    NONE
+}
@@ -0,0 +1,26 @@
+package com.marv.taskmaster.models.enums;
+
+/**
+ * File format of the streaming task export and import.
+ * NDJSON holds one JSON object per line, CSV a header row followed by one row per task.
+ */
+public enum TaskFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -1,23 +1,40 @@
 package com.marv.taskmaster.repositories;
 
 import com.marv.taskmaster.models.entities.Project;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
+    // Live count of a project's tasks in one status (used by the counter reconciliation)
+    String TASKS_WITH_STATUS = "(SELECT COUNT(t) FROM Task t WHERE t.project.id = p.id AND t.status = ";
+
     /**
      * GET ALL PROJECTS (Paged)
      * Finds all projects belonging to a specific user.
      */
     Page<Project> findByOwnerId(UUID ownerId, Pageable pageable);
 
+    // Same page without the COUNT query (fetches size + 1 rows to know if more exist)
+    Slice<Project> findSliceByOwnerId(UUID ownerId, Pageable pageable);
+
+    long countByOwnerId(UUID ownerId);
+
     /**
      * GET SINGLE PROJECT (Secure)
      * Finds a project by ID, BUT only if it belongs to the specific owner.
@@ -25,9 +42,92 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
      */
     Optional<Project> findByIdAndOwnerId(UUID id, UUID ownerId);
 
+    /**
+     * Same secure lookup, but loads the tasks and their assignees in the same statement
+     * (Project.withTasksAndAssignees). Used when the full task list is mapped.
+     */
+    @EntityGraph("Project.withTasksAndAssignees")
+    Optional<Project> findWithTasksByIdAndOwnerId(UUID id, UUID ownerId);
+
     /**
      * DUPLICATE CHECK
      * Checks if the user already has a project with this name (case-insensitive).
      */
     boolean existsByNameAndOwnerId(String name, UUID ownerId);
+
+    /*
+     * TASK COUNTERS
+     * Relative, atomic adjustment: concurrent writers never lose each other's increments.
+     * Must run in the transaction that changes the tasks.
+     */
+    @Modifying
+    @Query("UPDATE Project p SET " +
+            "p.pendingTasks = p.pendingTasks + :pending, " +
+            "p.inProgressTasks = p.inProgressTasks + :inProgress, " +
+            "p.completedTasks = p.completedTasks + :completed, " +
+            "p.cancelledTasks = p.cancelledTasks + :cancelled " +
+            "WHERE p.id = :projectId")
+    int adjustTaskCounters(@Param("projectId") UUID projectId,
+                           @Param("pending") long pending,
+                           @Param("inProgress") long inProgress,
+                           @Param("completed") long completed,
+                           @Param("cancelled") long cancelled);
+
+    // PENDING + IN_PROGRESS, read by primary key (replaces the COUNT over the tasks table)
+    @Query("SELECT p.pendingTasks + p.inProgressTasks FROM Project p WHERE p.id = :projectId")
+    long countOpenTasks(@Param("projectId") UUID projectId);
+
+    /*
+     * AUTO-COMPLETE / AUTO-REOPEN
+     * Decide and write in one conditional statement: the row lock taken by the UPDATE orders it
+     * against concurrent counter changes, so there is no read-then-write window.
+     * Counter adjustments do not bump the version (they commute); status changes do.
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.status = com.marv.taskmaster.models.enums.ProjectStatus.COMPLETED, " +
+            "p.updatedAt = CURRENT_TIMESTAMP, p.version = p.version + 1 " +
+            "WHERE p.id = :projectId AND p.pendingTasks + p.inProgressTasks = 0 " +
+            "AND p.status <> com.marv.taskmaster.models.enums.ProjectStatus.COMPLETED")
+    int completeIfNoOpenTasks(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.status = com.marv.taskmaster.models.enums.ProjectStatus.IN_PROGRESS, " +
+            "p.updatedAt = CURRENT_TIMESTAMP, p.version = p.version + 1 " +
+            "WHERE p.id = :projectId AND p.status = com.marv.taskmaster.models.enums.ProjectStatus.COMPLETED")
+    int reopenIfCompleted(@Param("projectId") UUID projectId);
+
+    /*
+     * RECONCILIATION (background)
+     * Batches are walked in id order; each repair commits on its own, after locking the
+     * drifted rows so no writer's counter change is pending while they are recounted.
+     */
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<UUID> findIdBatch(Pageable pageable);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<UUID> findIdBatchAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND (" +
+            "p.pendingTasks <> " + TASKS_WITH_STATUS + "'PENDING') OR " +
+            "p.inProgressTasks <> " + TASKS_WITH_STATUS + "'IN_PROGRESS') OR " +
+            "p.completedTasks <> " + TASKS_WITH_STATUS + "'COMPLETED') OR " +
+            "p.cancelledTasks <> " + TASKS_WITH_STATUS + "'CANCELLED'))")
+    List<UUID> findIdsWithCounterDrift(@Param("ids") List<UUID> ids);
+
+    // SELECT ... FOR UPDATE: waits for writers that already moved these counters to commit,
+    // and holds back new ones until the recount commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids ORDER BY p.id")
+    List<UUID> lockForRecount(@Param("ids") List<UUID> ids);
+
+    // Recount and write in one statement; call under lockForRecount in the same transaction
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET " +
+            "p.pendingTasks = " + TASKS_WITH_STATUS + "'PENDING'), " +
+            "p.inProgressTasks = " + TASKS_WITH_STATUS + "'IN_PROGRESS'), " +
+            "p.completedTasks = " + TASKS_WITH_STATUS + "'COMPLETED'), " +
+            "p.cancelledTasks = " + TASKS_WITH_STATUS + "'CANCELLED') " +
+            "WHERE p.id IN :ids")
+    int recountTaskCounters(@Param("ids") List<UUID> ids);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.marv.taskmaster.repositories;
+
+import com.marv.taskmaster.models.entities.SchedulerLease;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, UUID> {
+
+    boolean existsByName(String name);
+
+    // Takes the lease if it is free (expired) or already ours; 1 = acquired
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.lockedBy = :owner, l.lockedUntil = :until " +
+            "WHERE l.name = :name AND (l.lockedUntil <= :now OR l.lockedBy = :owner)")
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.lockedUntil = :until WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,105 @@
+package com.marv.taskmaster.repositories;
+
+import com.marv.taskmaster.utils.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs list queries that select only the columns behind the requested sparse fields
+ * (tuple query, no entities loaded) and returns one map per row, in field order.
+ */
+@Repository
+public class SparseFieldRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * One page of rows (fetches size + 1 to know if more exist, no COUNT).
+     * Associations referenced by a path (e.g. "assignee.firstname") are LEFT joined,
+     * so rows without them come back with nulls.
+     */
+    public <E> Slice<Map<String, Object>> findSlice(Class<E> type, List<SparseFields.Field> fields,
+                                                    Specification<E> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(type);
+
+        // Each distinct path is selected once, even if several fields use it
+        Map<String, Integer> columnByPath = new LinkedHashMap<>();
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (SparseFields.Field field : fields) {
+            for (String path : field.paths()) {
+                if (!columnByPath.containsKey(path)) {
+                    columnByPath.put(path, selections.size());
+                    selections.add(resolve(root, path, joins));
+                }
+            }
+        }
+
+        query.multiselect(selections);
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = tuples.size() > pageable.getPageSize();
+        List<Map<String, Object>> rows = new ArrayList<>(Math.min(tuples.size(), pageable.getPageSize()));
+        for (int i = 0; i < tuples.size() && i < pageable.getPageSize(); i++) {
+            Tuple tuple = tuples.get(i);
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (SparseFields.Field field : fields) {
+                Object[] values = field.paths().stream()
+                        .map(path -> tuple.get(columnByPath.get(path)))
+                        .toArray();
+                row.put(field.name(), field.value().apply(values));
+            }
+            rows.add(row);
+        }
+        return new SliceImpl<>(rows, pageable, hasNext);
+    }
+
+    // --- Private Helpers ---
+
+    private Path<?> resolve(Root<?> root, String path, Map<String, Join<?, ?>> joins) {
+        String[] parts = path.split("\\.");
+        From<?, ?> from = root;
+        String joinKey = "";
+        for (int i = 0; i < parts.length - 1; i++) {
+            joinKey = joinKey.isEmpty() ? parts[i] : joinKey + "." + parts[i];
+            From<?, ?> parent = from;
+            String attribute = parts[i];
+            from = joins.computeIfAbsent(joinKey, key -> parent.join(attribute, JoinType.LEFT));
+        }
+        return from.get(parts[parts.length - 1]);
+    }
+}
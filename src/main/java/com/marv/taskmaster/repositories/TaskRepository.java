@@ -1,24 +1,58 @@
 package com.marv.taskmaster.repositories;
 
+import com.marv.taskmaster.models.dto.response.task.AssignedTaskResponse;
+import com.marv.taskmaster.models.dto.response.task.TaskResponse;
 import com.marv.taskmaster.models.entities.Task;
+import com.marv.taskmaster.models.entities.User;
 import com.marv.taskmaster.models.enums.TaskStatus;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskSearchRepository {
+
+    // Filtered task list (TaskSpecifications); the assignee comes with the page query
+    @Override
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    /*
+     * DTO PROJECTIONS
+     * List endpoints select straight into the response shape in one joined statement:
+     * no lazy assignee/project loads per row and nothing enters the persistence context.
+     */
+    String TASK_RESPONSE_SELECT = "SELECT new com.marv.taskmaster.models.dto.response.task.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.dueDate, t.isOverdue, a.id, a.firstname, a.lastname) " +
+            "FROM Task t LEFT JOIN t.assignee a ";
+
+    String ASSIGNED_TASK_RESPONSE_SELECT = "SELECT new com.marv.taskmaster.models.dto.response.task.AssignedTaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.dueDate, t.isOverdue, a.id, a.firstname, a.lastname, p.id, p.name) " +
+            "FROM Task t JOIN t.assignee a JOIN t.project p ";
+
+    // Ownership guard for set-based writes: the project must exist AND belong to the caller
+    String IN_OWNED_PROJECT = "t.project.id IN (SELECT p.id FROM Project p WHERE p.id = :projectId AND p.owner.id = :ownerId)";
 
     // Count how many tasks in a project are NOT Completed or Cancelled
-    // Used to check if project should be closed
+    // (the live equivalent of the counters on Project)
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.status IN (:statuses)")
     long countByProjectAndStatusIn(@Param("projectId") UUID projectId, @Param("statuses") List<TaskStatus> statuses);
 
@@ -32,13 +66,233 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
      * 1. Due date is in the past (< now)
      * 2. isOverdue is currently false (don't update rows that are already marked)
      * 3. Status is NOT Completed or Cancelled (only active tasks can be overdue)
+     * At most :limit rows per statement; each call commits on its own, keeping row locks short.
      */
+    @Transactional
     @Modifying // Required for UPDATE/DELETE queries
-    @Query("UPDATE Task t SET t.isOverdue = true WHERE t.dueDate < :now AND t.isOverdue = false AND t.status IN ('PENDING', 'IN_PROGRESS')")
-    int markOverdueTasks(@Param("now") LocalDateTime now);
+    // Native statements evict every second-level cache region unless told which tables they touch
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "UPDATE tasks SET is_overdue = :overdue, version = version + 1 " +
+            "WHERE due_date < :now AND is_overdue = :notOverdue AND status IN ('PENDING', 'IN_PROGRESS') " +
+            "AND ROWNUM <= :limit", nativeQuery = true)
+    int markOverdueTasksChunk(@Param("now") LocalDateTime now,
+                              @Param("limit") int limit,
+                              @Param("overdue") boolean overdue,
+                              @Param("notOverdue") boolean notOverdue);
+
+    // Same rules, limited to tasks the due-date scheduler just saw expire (own transaction per call)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.isOverdue = true, t.version = t.version + 1 " +
+            "WHERE t.id IN :taskIds AND t.dueDate < :now AND t.isOverdue = false AND t.status IN ('PENDING', 'IN_PROGRESS')")
+    int markOverdueByIds(@Param("taskIds") List<UUID> taskIds, @Param("now") LocalDateTime now);
+
+    /*
+     * TEXT SEARCH
+     * Source rows of the in-memory index (TaskSearchIndex), and the database fallback used
+     * while it is not available.
+     */
+    interface TaskText {
+        UUID getId();
+
+        String getTitle();
+
+        String getDescription();
+    }
+
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t " +
+            "WHERE t.project.id = :projectId ORDER BY t.createdAt, t.id")
+    List<TaskText> findTextByProjectId(@Param("projectId") UUID projectId);
+
+    // Rows changed on any instance, for keeping each instance's index in step (keyset on updated_at, id)
+    interface TaskChange extends TaskText {
+        UUID getProjectId();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.title AS title, t.description AS description, " +
+            "t.updatedAt AS updatedAt FROM Task t WHERE t.updatedAt >= :since ORDER BY t.updatedAt, t.id")
+    List<TaskChange> findChangesSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.title AS title, t.description AS description, " +
+            "t.updatedAt AS updatedAt FROM Task t " +
+            "WHERE t.updatedAt > :since OR (t.updatedAt = :since AND t.id > :afterId) ORDER BY t.updatedAt, t.id")
+    List<TaskChange> findChangesAfter(@Param("since") LocalDateTime since,
+                                      @Param("afterId") UUID afterId,
+                                      Pageable pageable);
+
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee WHERE t.project.id = :projectId AND t.id IN :taskIds")
+    List<Task> findWithAssigneeByProjectIdAndIdIn(@Param("projectId") UUID projectId,
+                                                  @Param("taskIds") List<UUID> taskIds);
+
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee WHERE t.project.id = :projectId " +
+            "AND (LOWER(t.title) LIKE :pattern OR LOWER(t.description) LIKE :pattern) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> searchByTextLike(@Param("projectId") UUID projectId,
+                                @Param("pattern") String pattern,
+                                Pageable pageable);
+
+    /*
+     * EXPORT
+     * Whole project read through one forward-only cursor. Rows are projections, so nothing
+     * is added to the persistence context and memory stays flat however many tasks there are.
+     * The caller must consume (and close) the stream inside a read-only transaction.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    interface ExportRow {
+        UUID getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        TaskStatus getStatus();
+
+        LocalDateTime getDueDate();
+
+        boolean getOverdue();
+
+        UUID getAssigneeId();
+
+        String getAssigneeEmail();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.status AS status, " +
+            "t.dueDate AS dueDate, t.isOverdue AS overdue, a.id AS assigneeId, a.email AS assigneeEmail, " +
+            "t.createdAt AS createdAt, t.updatedAt AS updatedAt " +
+            "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id = :projectId ORDER BY t.createdAt, t.id")
+    Stream<ExportRow> streamExportRows(@Param("projectId") UUID projectId);
+
+    // Open, not yet flagged tasks due before the scheduler's horizon
+    interface DueTask {
+        UUID getId();
+
+        LocalDateTime getDueDate();
+    }
+
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate FROM Task t " +
+            "WHERE t.dueDate < :until AND t.isOverdue = false AND t.status IN ('PENDING', 'IN_PROGRESS')")
+    List<DueTask> findOpenDueBefore(@Param("until") LocalDateTime until);
+
+    /*
+     * BULK TRANSITIONS
+     * One statement per chunk of IDs (callers keep chunks within Oracle's 1000-element IN limit)
+     * AND per source status. The row count of each statement is exactly how many tasks left
+     * that status, so the project counters are moved by what the write did, never by an
+     * earlier read: a row changed concurrently is locked, re-checked by the database and
+     * skipped if it no longer has the source status.
+     * Bulk statements bypass @Version, so they bump it themselves to invalidate loaded copies.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :to, t.updatedAt = :now, t.version = t.version + 1 " +
+            "WHERE t.id IN :taskIds AND t.status = :from AND " + IN_OWNED_PROJECT)
+    int updateStatusFromInProject(@Param("projectId") UUID projectId,
+                                  @Param("ownerId") UUID ownerId,
+                                  @Param("taskIds") List<UUID> taskIds,
+                                  @Param("from") TaskStatus from,
+                                  @Param("to") TaskStatus to,
+                                  @Param("now") LocalDateTime now);
+
+    // Set-based delete for one chunk of IDs in one status; never loads the entities
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId AND t.id IN :taskIds AND t.status = :status")
+    int deleteByProjectIdAndIdInAndStatus(@Param("projectId") UUID projectId,
+                                          @Param("taskIds") List<UUID> taskIds,
+                                          @Param("status") TaskStatus status);
+
+    // Same rule as single assignment: PENDING tasks move to IN_PROGRESS (the count feeds the counters)
+    @Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.status = :inProgress, t.updatedAt = :now, " +
+            "t.version = t.version + 1 WHERE t.id IN :taskIds AND t.status = :pending AND " + IN_OWNED_PROJECT)
+    int assignPendingInProject(@Param("projectId") UUID projectId,
+                               @Param("ownerId") UUID ownerId,
+                               @Param("taskIds") List<UUID> taskIds,
+                               @Param("assignee") User assignee,
+                               @Param("pending") TaskStatus pending,
+                               @Param("inProgress") TaskStatus inProgress,
+                               @Param("now") LocalDateTime now);
+
+    // Tasks in any other status only get the new assignee
+    @Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :now, t.version = t.version + 1 " +
+            "WHERE t.id IN :taskIds AND t.status <> :pending AND " + IN_OWNED_PROJECT)
+    int assignStartedInProject(@Param("projectId") UUID projectId,
+                               @Param("ownerId") UUID ownerId,
+                               @Param("taskIds") List<UUID> taskIds,
+                               @Param("assignee") User assignee,
+                               @Param("pending") TaskStatus pending,
+                               @Param("now") LocalDateTime now);
+
+    @Query(value = TASK_RESPONSE_SELECT + "WHERE t.project.id = :projectId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId")
+    Page<TaskResponse> findResponsesByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    // Fetch all tasks assigned to a specific user across all projects (with project context)
+    @Query(value = ASSIGNED_TASK_RESPONSE_SELECT + "WHERE a.id = :assigneeId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.assignee.id = :assigneeId")
+    Page<AssignedTaskResponse> findAssignedResponsesByAssigneeId(@Param("assigneeId") UUID assigneeId, Pageable pageable);
+
+    // Count-free variants of the two lists above (size + 1 rows, no COUNT query)
+    @Query(TASK_RESPONSE_SELECT + "WHERE t.project.id = :projectId")
+    Slice<TaskResponse> findResponseSliceByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    @Query(ASSIGNED_TASK_RESPONSE_SELECT + "WHERE a.id = :assigneeId")
+    Slice<AssignedTaskResponse> findAssignedResponseSliceByAssigneeId(@Param("assigneeId") UUID assigneeId, Pageable pageable);
+
+    /**
+     * GET SINGLE TASK (Secure)
+     * One statement: the task is returned only if it belongs to the project AND the project
+     * belongs to the owner (checked on projects.owner_id). The project and assignee are
+     * fetched along, so mapping and the completion check need no further queries.
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p LEFT JOIN FETCH t.assignee " +
+            "WHERE t.id = :taskId AND p.id = :projectId AND p.owner.id = :ownerId")
+    Optional<Task> findSecurely(@Param("taskId") UUID taskId,
+                                @Param("projectId") UUID projectId,
+                                @Param("ownerId") UUID ownerId);
+
+    long countByProjectId(UUID projectId);
+
+    long countByAssigneeId(UUID assigneeId);
+
+    /*
+     * KEYSET PAGINATION
+     * Rows are ordered by (createdAt, id) and each page starts right after the last row
+     * of the previous one, so the index range scan never skips rows (no OFFSET) and no
+     * COUNT query runs. Pass an unsorted Pageable of (page 0, limit).
+     * Backed by idx_tasks_project_created / idx_tasks_assignee_created.
+     * The to-one associations the responses need are fetched in the same statement.
+     */
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee WHERE t.project.id = :projectId ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findFirstByProjectIdKeyset(@Param("projectId") UUID projectId, Pageable limit);
+
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee WHERE t.project.id = :projectId " +
+            "AND t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id) " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findNextByProjectIdKeyset(@Param("projectId") UUID projectId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable limit);
 
-    Page<Task> findByProjectId(UUID projectId, Pageable pageable);
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignee JOIN FETCH t.project WHERE t.assignee.id = :assigneeId ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findFirstByAssigneeIdKeyset(@Param("assigneeId") UUID assigneeId, Pageable limit);
 
-    // Fetch all tasks assigned to a specific user across all projects
-    Page<Task> findByAssigneeId(UUID assigneeId, Pageable pageable);
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignee JOIN FETCH t.project WHERE t.assignee.id = :assigneeId " +
+            "AND t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id) " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findNextByAssigneeIdKeyset(@Param("assigneeId") UUID assigneeId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable limit);
 }
\ No newline at end of file
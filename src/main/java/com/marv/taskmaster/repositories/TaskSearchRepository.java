@@ -0,0 +1,18 @@
+package com.marv.taskmaster.repositories;
+
+import com.marv.taskmaster.models.entities.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom query fragment of TaskRepository for filtered task lists.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Filtered page without the COUNT query (fetches size + 1 rows to know if more exist).
+     * The assignee is fetched in the same statement.
+     */
+    Slice<Task> findSlice(Specification<Task> spec, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.marv.taskmaster.repositories;
+
+import com.marv.taskmaster.models.entities.User;
+import jakarta.transaction.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Custom query fragment of UserRepository for lookups by the email natural id.
+ */
+public interface UserLookupRepository {
+
+    /**
+     * Finds a user by email (login, legacy tokens). Resolved through the natural-id cache and
+     * then the entity cache, so a warm lookup runs no SQL; unknown emails always hit the database.
+     */
+    @Transactional
+    Optional<User> findByEmail(String email);
+}
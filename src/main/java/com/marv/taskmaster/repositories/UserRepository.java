@@ -1,18 +1,27 @@
 package com.marv.taskmaster.repositories;
 
 import com.marv.taskmaster.models.entities.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserLookupRepository {
 
-    // Finds a user by email (useful for Login and specific lookups)
-    Optional<User> findByEmail(String email);
+    // ID only, for resolving assignees by email without loading the user (task import)
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<UUID> findIdByEmail(@Param("email") String email);
 
     // Checks if an email exists (useful for Signup validation)
     boolean existsByEmail(String email);
+
+    // findAll(Pageable) without the COUNT query
+    @Query("SELECT u FROM User u")
+    Slice<User> findAllAsSlice(Pageable pageable);
 }
\ No newline at end of file
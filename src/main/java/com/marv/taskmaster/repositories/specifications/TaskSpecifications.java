@@ -0,0 +1,39 @@
+package com.marv.taskmaster.repositories.specifications;
+
+import com.marv.taskmaster.models.entities.Task;
+import com.marv.taskmaster.models.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Building blocks for the filtered task list.
+ * Every filter is combined with inProject, so each combination starts from one of the
+ * project_id-leading indexes on tasks (see Task).
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inProject(UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> assignedTo(UUID assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), to);
+    }
+}
@@ -1,6 +1,7 @@
 package com.marv.taskmaster.services;
 
 import com.marv.taskmaster.models.dto.request.auth.LoginRequest;
+import com.marv.taskmaster.models.dto.request.auth.RefreshTokenRequest;
 import com.marv.taskmaster.models.dto.request.auth.SignupRequest;
 import com.marv.taskmaster.models.dto.response.auth.LoginResponse;
 import com.marv.taskmaster.models.dto.response.auth.SignupResponse;
@@ -8,6 +9,8 @@ import com.marv.taskmaster.models.dto.response.user.UserDetailResponse;
 import com.marv.taskmaster.models.entities.User;
 import com.marv.taskmaster.models.security.CustomUserDetails;
 import com.marv.taskmaster.repositories.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +32,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
 
     public SignupResponse signup(SignupRequest request) {
@@ -77,16 +82,12 @@ public class AuthService {
             User user = userRepository.findByEmail(request.getEmail())
                     .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-            String jwtToken = jwtService.generateToken(new CustomUserDetails(user));
+            String refreshToken = refreshTokenService.issue(user);
 
             log.info("Login successful for user {} at {}",
                     user.getEmail(), LocalDateTime.now());
 
-            return LoginResponse.builder()
-                    .token(jwtToken)
-                    .user(mapToDetailResponse(user))
-                    .expiresIn(jwtService.getJwtExpiration() / 1000)
-                    .build();
+            return buildLoginResponse(user, refreshToken);
 
         } catch (AuthenticationException e) {
             log.error("Login attempt failed for user {} at {}: Invalid Credentials",
@@ -99,8 +100,43 @@ public class AuthService {
         }
     }
 
+
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        log.info("Token refreshed for user {} at {}",
+                rotation.user().getEmail(), LocalDateTime.now());
+
+        return buildLoginResponse(rotation.user(), rotation.refreshToken());
+    }
+
+
+    public void logout(RefreshTokenRequest request, String accessToken) {
+        refreshTokenService.revoke(request.getRefreshToken());
+
+        // Also kill the access token that came with the request, if it is still valid
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtService.verifyToken(accessToken);
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+            } catch (JwtException e) {
+                log.debug("Skipping revocation of an invalid or expired access token: {}", e.getMessage());
+            }
+        }
+    }
+
     // --- Private Helpers ---
 
+    private LoginResponse buildLoginResponse(User user, String refreshToken) {
+        return LoginResponse.builder()
+                .token(jwtService.generateToken(new CustomUserDetails(user)))
+                .expiresIn(jwtService.getJwtExpiration() / 1000)
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getRefreshExpiration() / 1000)
+                .user(mapToDetailResponse(user))
+                .build();
+    }
+
     private UserDetailResponse mapToDetailResponse(User user) {
         return UserDetailResponse.builder()
                 .id(user.getId())
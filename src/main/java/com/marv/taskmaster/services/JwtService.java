@@ -1,24 +1,44 @@
 package com.marv.taskmaster.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.security.CustomUserDetails;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    // Identity claims embedded next to the subject so the filter can skip the user lookup
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_FIRSTNAME = "firstname";
+    private static final String CLAIM_LASTNAME = "lastname";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -27,12 +47,46 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    // Upper bound on distinct tokens kept in the verified-token cache
+    @Value("${jwt.cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
+    // When on, the principal is rebuilt from the token claims instead of the database
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    // Decoded once; the secret never changes while the app is running
+    private Key signInKey;
+    private JwtParser jwtParser;
+
+    // SHA-256(token) -> verified claims, each entry expires together with its token
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
     /**
      * Generates a token for a validated user.
      * Accepted UserDetails (which acts as the bridge to your CustomUserDetails/UserEntity).
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            User user = customUserDetails.getUser();
+            claims.put(CLAIM_USER_ID, user.getId().toString());
+            claims.put(CLAIM_FIRSTNAME, user.getFirstname());
+            claims.put(CLAIM_LASTNAME, user.getLastname());
+        }
+        return generateToken(claims, userDetails);
     }
 
     /**
@@ -41,20 +95,70 @@ public class JwtService {
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return Jwts.builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString()) // "jti", the handle used for revocation
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Parses and verifies the token, returning its claims.
+     * The signature is only checked the first time a token is seen; later calls
+     * with the same token are served from the cache until the token expires.
+     */
+    public Claims verifyToken(String token) {
+        String digest = digest(token);
+
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            // The cache may hand back an entry in the instant before it is evicted
+            if (cached.getExpiration().before(new Date())) {
+                verifiedTokens.invalidate(digest);
+                throw new ExpiredJwtException(null, cached, "JWT expired at " + cached.getExpiration());
+            }
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
     /**
      * Validates the token against the user details and expiration.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
+        return isTokenValid(verifyToken(token), userDetails);
+    }
+
+    /**
+     * Same check as above for claims that were already verified.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
         // Check if token email matches user email AND token is not expired
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * Rebuilds the authenticated principal from verified claims.
+     * Empty when stateless mode is off or the token predates the identity claims,
+     * in which case the caller falls back to the UserDetailsService.
+     */
+    public Optional<CustomUserDetails> extractPrincipal(Claims claims) {
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        if (!statelessPrincipal || userId == null) {
+            return Optional.empty();
+        }
+
+        User user = new User();
+        user.setId(UUID.fromString(userId));
+        user.setEmail(claims.getSubject());
+        user.setFirstname(claims.get(CLAIM_FIRSTNAME, String.class));
+        user.setLastname(claims.get(CLAIM_LASTNAME, String.class));
+        return Optional.of(new CustomUserDetails(user));
     }
 
     /**
@@ -69,28 +173,40 @@ public class JwtService {
     // =================================================================
 
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verifyToken(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to ship SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
+    /**
+     * Evicts each cached token at its own "exp" claim.
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.marv.taskmaster.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.marv.taskmaster.models.enums.PageTotalMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of list totals for callers that want a total but can live with
+ * one that is a few seconds old (PageTotalMode.CACHED).
+ */
+@Service
+public class PageCountCache {
+
+    private final Cache<String, Long> counts;
+
+    public PageCountCache(@Value("${pagination.count-cache.ttl:30s}") Duration ttl,
+                          @Value("${pagination.count-cache.max-size:10000}") long maxSize) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Total to report next to a Slice: null for NONE, a cached count for CACHED.
+     * EXACT lists go through a Page and never call this.
+     */
+    public Long resolve(PageTotalMode mode, String key, LongSupplier counter) {
+        if (mode != PageTotalMode.CACHED) {
+            return null;
+        }
+        return counts.get(key, k -> counter.getAsLong());
+    }
+}
@@ -4,23 +4,36 @@ import com.marv.taskmaster.models.dto.request.project.CreateProjectRequest;
 import com.marv.taskmaster.models.dto.request.project.UpdateProjectRequest;
 import com.marv.taskmaster.models.dto.response.generic.PagedData;
 import com.marv.taskmaster.models.dto.response.project.ProjectResponse;
+import com.marv.taskmaster.models.dto.response.project.TaskCountsResponse;
 import com.marv.taskmaster.models.dto.response.task.TaskResponse;
 import com.marv.taskmaster.models.entities.Project;
 import com.marv.taskmaster.models.entities.Task;
 import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.enums.PageTotalMode;
 import com.marv.taskmaster.models.enums.ProjectStatus;
 import com.marv.taskmaster.models.security.CustomUserDetails;
+import com.marv.taskmaster.utils.SparseFields;
 import com.marv.taskmaster.repositories.ProjectRepository;
+import com.marv.taskmaster.repositories.SparseFieldRepository;
+import com.marv.taskmaster.repositories.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,6 +43,17 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TaskOverduePolicy overduePolicy;
+    private final SparseFieldRepository sparseFieldRepository;
+
+    // Fields selectable with ?fields= on the project list (names match the JSON of ProjectResponse)
+    private final SparseFields projectFields = SparseFields.builder()
+            .fields("id", "name", "description", "status", "createdAt", "updatedAt")
+            .field("taskCounts", List.of("pendingTasks", "inProgressTasks", "completedTasks", "cancelledTasks"),
+                    values -> toTaskCounts((long) values[0], (long) values[1], (long) values[2], (long) values[3]))
+            .build();
+    private final PageCountCache pageCountCache;
 
 
     public ProjectResponse createProject(CreateProjectRequest request) {
@@ -44,7 +68,8 @@ public class ProjectService {
         Project project = new Project();
         project.setName(request.getName());
         project.setDescription(request.getDescription());
-        project.setOwner(currentUser);
+        // The principal may be rebuilt from token claims (no version), so reference the row by id
+        project.setOwner(userRepository.getReferenceById(currentUser.getId()));
         project.setStatus(ProjectStatus.IN_PROGRESS);
 
         Project savedProject = projectRepository.save(project);
@@ -52,23 +77,71 @@ public class ProjectService {
         log.info("Project created: ID={} Name={} Owner={}",
                 savedProject.getId(), savedProject.getName(), currentUser.getEmail());
 
-        return mapToResponse(savedProject);
+        return mapToResponse(savedProject, false);
     }
 
 
-    public PagedData<ProjectResponse> getMyProjects(Pageable pageable) {
+    /**
+     * Queries: the page (+ COUNT in EXACT mode). Task counts come from the project row itself.
+     * With includeTasks, the tasks of every project on the page and their assignees are added,
+     * each loaded in batches of hibernate.default_batch_fetch_size.
+     */
+    @Transactional
+    public PagedData<ProjectResponse> getMyProjects(Pageable pageable, PageTotalMode totalMode, boolean includeTasks) {
         User currentUser = getCurrentUser();
-        Page<Project> projectsPage = projectRepository.findByOwnerId(currentUser.getId(), pageable);
-        return new PagedData<>(projectsPage.map(this::mapToResponse));
+
+        if (totalMode == PageTotalMode.EXACT) {
+            Page<Project> projectsPage = projectRepository.findByOwnerId(currentUser.getId(), pageable);
+            return new PagedData<>(projectsPage.map(project -> mapToResponse(project, includeTasks)));
+        }
+
+        Slice<Project> projectsSlice = projectRepository.findSliceByOwnerId(currentUser.getId(), pageable);
+        Long total = pageCountCache.resolve(totalMode, "projects:owner:" + currentUser.getId(),
+                () -> projectRepository.countByOwnerId(currentUser.getId()));
+        return new PagedData<>(projectsSlice.map(project -> mapToResponse(project, includeTasks)), total);
     }
 
 
-    public ProjectResponse getProjectById(UUID projectId) {
-        Project project = getProjectSecurely(projectId);
-        return mapToResponse(project);
+    // Sparse variant of getMyProjects: selects and returns only the requested fields
+    public PagedData<Map<String, Object>> getMyProjectFields(String fields, Pageable pageable, PageTotalMode totalMode) {
+        User currentUser = getCurrentUser();
+        Specification<Project> ownedByUser = (root, query, cb) -> cb.equal(root.get("owner").get("id"), currentUser.getId());
+
+        Slice<Map<String, Object>> rows =
+                sparseFieldRepository.findSlice(Project.class, projectFields.select(fields), ownedByUser, pageable);
+
+        if (totalMode == PageTotalMode.EXACT) {
+            return new PagedData<>(new PageImpl<>(rows.getContent(), pageable,
+                    projectRepository.countByOwnerId(currentUser.getId())));
+        }
+
+        Long total = pageCountCache.resolve(totalMode, "projects:owner:" + currentUser.getId(),
+                () -> projectRepository.countByOwnerId(currentUser.getId()));
+        return new PagedData<>(rows, total);
+    }
+
+
+    /**
+     * Queries: one. With includeTasks the tasks and their assignees come in the same statement
+     * (Project.withTasksAndAssignees graph).
+     */
+    public ProjectResponse getProjectById(UUID projectId, boolean includeTasks) {
+        if (!includeTasks) {
+            return mapToResponse(getProjectSecurely(projectId), false);
+        }
+
+        User currentUser = getCurrentUser();
+        Project project = projectRepository.findWithTasksByIdAndOwnerId(projectId, currentUser.getId())
+                .orElseThrow(() -> new EntityNotFoundException("Project not found or access denied"));
+        return mapToResponse(project, true);
     }
 
 
+    // Queries: lookup, duplicate check, update
+    @Transactional
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${tasks.concurrency.max-attempts:4}",
+            backoff = @Backoff(delayExpression = "${tasks.concurrency.backoff-ms:20}", multiplier = 2, random = true))
     public ProjectResponse updateProject(UUID projectId, UpdateProjectRequest request) {
         Project project = getProjectSecurely(projectId);
 
@@ -83,10 +156,15 @@ public class ProjectService {
         Project updatedProject = projectRepository.save(project);
         log.info("Project updated: ID={}, Name={}", updatedProject.getId(), updatedProject.getName());
 
-        return mapToResponse(updatedProject);
+        return mapToResponse(updatedProject, false);
     }
 
 
+    // Queries: lookup, update
+    @Transactional
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${tasks.concurrency.max-attempts:4}",
+            backoff = @Backoff(delayExpression = "${tasks.concurrency.backoff-ms:20}", multiplier = 2, random = true))
     public ProjectResponse cancelProject(UUID projectId) {
         Project project = getProjectSecurely(projectId);
 
@@ -99,7 +177,7 @@ public class ProjectService {
 
         log.info("Project cancelled: ID={}, Name={}", savedProject.getId(),savedProject.getName());
 
-        return mapToResponse(savedProject);
+        return mapToResponse(savedProject, false);
     }
 
     // --- Private Helpers ---
@@ -119,7 +197,14 @@ public class ProjectService {
     }
 
 
-    private ProjectResponse mapToResponse(Project project) {
+    private ProjectResponse mapToResponse(Project project, boolean includeTasks) {
+        // Only touches the (lazy) task collection when asked to; handles nulls
+        List<TaskResponse> tasks = null;
+        if (includeTasks) {
+            tasks = project.getTasks() == null ? List.of() :
+                    project.getTasks().stream().map(this::mapTaskToResponse).collect(Collectors.toList());
+        }
+
         return ProjectResponse.builder()
                 .id(project.getId())
                 .name(project.getName())
@@ -127,9 +212,24 @@ public class ProjectService {
                 .status(project.getStatus())
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
-                // Safe mapping for list (handles nulls)
-                .tasks(project.getTasks() == null ? Collections.emptyList() :
-                        project.getTasks().stream().map(this::mapTaskToResponse).collect(Collectors.toList()))
+                .taskCounts(mapTaskCounts(project))
+                .tasks(tasks)
+                .build();
+    }
+
+    // Read from the counters maintained on the project row, no extra query
+    private TaskCountsResponse mapTaskCounts(Project project) {
+        return toTaskCounts(project.getPendingTasks(), project.getInProgressTasks(),
+                project.getCompletedTasks(), project.getCancelledTasks());
+    }
+
+    private static TaskCountsResponse toTaskCounts(long pending, long inProgress, long completed, long cancelled) {
+        return TaskCountsResponse.builder()
+                .pending(pending)
+                .inProgress(inProgress)
+                .completed(completed)
+                .cancelled(cancelled)
+                .total(pending + inProgress + completed + cancelled)
                 .build();
     }
 
@@ -140,7 +240,7 @@ public class ProjectService {
                 .description(task.getDescription())
                 .status(task.getStatus().name())
                 .dueDate(task.getDueDate())
-                .isOverdue(task.isOverdue())
+                .isOverdue(overduePolicy.isOverdue(task))
                 // Handle optional assignee
                 .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
                 .assigneeName(task.getAssignee() != null ?
@@ -0,0 +1,113 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.entities.RefreshToken;
+import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.repositories.RefreshTokenRepository;
+import jakarta.transaction.Transactional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Getter
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    /**
+     * Result of a successful rotation: the owner and the replacement token.
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+
+
+    /**
+     * Creates a new refresh token for the user and returns the raw value.
+     * The raw value is only ever seen by the client; we keep its digest.
+     */
+    public String issue(User user) {
+        byte[] randomBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setUser(user);
+        refreshToken.setExpiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000));
+        refreshTokenRepository.save(refreshToken);
+
+        return rawToken;
+    }
+
+
+    /**
+     * Consumes a refresh token and issues its replacement (one indexed lookup, no password hash).
+     * Presenting an already rotated token is treated as theft and ends all of the user's sessions.
+     */
+    @Transactional(dontRollbackOn = IllegalArgumentException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        User user = current.getUser();
+
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new IllegalArgumentException("Refresh token has expired");
+        }
+
+        // Either revoked earlier, or a concurrent refresh with the same token won the race
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeAllForUser(user.getId(), now);
+            log.warn("Refresh token reuse detected for user {}. Revoked {} active sessions",
+                    user.getEmail(), revoked);
+            throw new IllegalArgumentException("Refresh token has been revoked");
+        }
+
+        return new Rotation(user, issue(user));
+    }
+
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeIfActive(token.getId(), LocalDateTime.now()));
+    }
+
+
+    @Transactional
+    public int deleteExpired() {
+        return refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    // --- Private Helpers ---
+
+    private String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to ship SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.dto.response.task.AssignedTaskResponse;
+import com.marv.taskmaster.models.dto.response.task.TaskResponse;
+import com.marv.taskmaster.models.entities.Task;
+import com.marv.taskmaster.models.enums.OverdueMode;
+import com.marv.taskmaster.models.enums.TaskStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single place that decides whether a task is overdue, for responses and for query filters.
+ * In COMPUTED mode a task is overdue when it is still open (PENDING / IN_PROGRESS)
+ * and its due date has passed, evaluated against the current time.
+ */
+@Service
+public class TaskOverduePolicy {
+
+    @Getter
+    @Value("${tasks.overdue.mode:persisted}")
+    private OverdueMode mode;
+
+
+    public boolean isComputed() {
+        return mode == OverdueMode.COMPUTED;
+    }
+
+    public boolean isOverdue(Task task) {
+        return isOverdue(task.isOverdue(), task.getDueDate(), task.getStatus());
+    }
+
+    public boolean isOverdue(boolean persistedFlag, LocalDateTime dueDate, TaskStatus status) {
+        if (!isComputed()) {
+            return persistedFlag;
+        }
+        return dueDate != null
+                && dueDate.isBefore(LocalDateTime.now())
+                && (status == TaskStatus.PENDING || status == TaskStatus.IN_PROGRESS);
+    }
+
+    // Projection rows carry the stored column; recompute it in COMPUTED mode
+    public TaskResponse apply(TaskResponse response) {
+        if (isComputed()) {
+            response.setOverdue(isOverdue(false, response.getDueDate(), TaskStatus.valueOf(response.getStatus())));
+        }
+        return response;
+    }
+
+    public AssignedTaskResponse apply(AssignedTaskResponse response) {
+        if (isComputed()) {
+            response.setOverdue(isOverdue(false, response.getDueDate(), TaskStatus.valueOf(response.getStatus())));
+        }
+        return response;
+    }
+
+    /**
+     * SQL form of the same rule, for Criteria queries over tasks
+     * (backed by the (status, due_date) index in COMPUTED mode).
+     */
+    public Predicate overduePredicate(CriteriaBuilder cb, Path<Task> task, boolean overdue) {
+        if (!isComputed()) {
+            return overdue ? cb.isTrue(task.get("isOverdue")) : cb.isFalse(task.get("isOverdue"));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (overdue) {
+            return cb.and(
+                    task.get("status").in(TaskStatus.PENDING, TaskStatus.IN_PROGRESS),
+                    cb.lessThan(task.get("dueDate"), now)
+            );
+        }
+        // Spelled out rather than negated, so tasks without a due date are not lost to NULL logic
+        return cb.or(
+                task.get("status").in(TaskStatus.COMPLETED, TaskStatus.CANCELLED),
+                cb.isNull(task.get("dueDate")),
+                cb.greaterThanOrEqualTo(task.get("dueDate"), now)
+        );
+    }
+}
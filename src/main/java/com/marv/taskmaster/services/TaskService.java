@@ -1,42 +1,114 @@
 package com.marv.taskmaster.services;
 
 import com.marv.taskmaster.models.dto.request.task.AssignTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.BulkAssignTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.BulkCreateTaskRequest;
 import com.marv.taskmaster.models.dto.request.task.CreateTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.TaskFilterRequest;
 import com.marv.taskmaster.models.dto.request.task.UpdateTaskRequest;
+import com.marv.taskmaster.models.dto.response.generic.CursorPage;
 import com.marv.taskmaster.models.dto.response.generic.PagedData;
 import com.marv.taskmaster.models.dto.response.task.AssignedTaskResponse;
+import com.marv.taskmaster.models.dto.response.task.BulkOperationResponse;
 import com.marv.taskmaster.models.dto.response.task.TaskResponse;
 import com.marv.taskmaster.models.entities.Project;
 import com.marv.taskmaster.models.entities.Task;
 import com.marv.taskmaster.models.entities.User;
-import com.marv.taskmaster.models.enums.ProjectStatus;
+import com.marv.taskmaster.models.enums.PageTotalMode;
 import com.marv.taskmaster.models.enums.TaskStatus;
 import com.marv.taskmaster.models.security.CustomUserDetails;
 import com.marv.taskmaster.repositories.ProjectRepository;
+import com.marv.taskmaster.repositories.SparseFieldRepository;
 import com.marv.taskmaster.repositories.TaskRepository;
 import com.marv.taskmaster.repositories.UserRepository;
+import com.marv.taskmaster.repositories.specifications.TaskSpecifications;
+import com.marv.taskmaster.services.background.OverdueTaskScheduler;
+import com.marv.taskmaster.services.search.TaskSearchIndex;
+import com.marv.taskmaster.utils.Chunks;
+import com.marv.taskmaster.utils.KeysetCursor;
+import com.marv.taskmaster.utils.SparseFields;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
+// A write that lost an optimistic-lock race is replayed in a fresh transaction
+@Retryable(retryFor = ObjectOptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${tasks.concurrency.max-attempts:4}",
+        backoff = @Backoff(delayExpression = "${tasks.concurrency.backoff-ms:20}", multiplier = 2, random = true))
 public class TaskService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final PageCountCache pageCountCache;
+    private final OverdueTaskScheduler overdueTaskScheduler;
+    private final TaskOverduePolicy overduePolicy;
+    private final TaskSearchIndex taskSearchIndex;
+    private final SparseFieldRepository sparseFieldRepository;
+
+    // Fields selectable with ?fields= on the task lists (names match the JSON of TaskResponse / AssignedTaskResponse)
+    private final SparseFields taskFields;
+
+    public TaskService(TaskRepository taskRepository,
+                       ProjectRepository projectRepository,
+                       UserRepository userRepository,
+                       PageCountCache pageCountCache,
+                       OverdueTaskScheduler overdueTaskScheduler,
+                       TaskOverduePolicy overduePolicy,
+                       TaskSearchIndex taskSearchIndex,
+                       SparseFieldRepository sparseFieldRepository) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.pageCountCache = pageCountCache;
+        this.overdueTaskScheduler = overdueTaskScheduler;
+        this.overduePolicy = overduePolicy;
+        this.taskSearchIndex = taskSearchIndex;
+        this.sparseFieldRepository = sparseFieldRepository;
+
+        // Built here rather than in a field initializer: the overdue field needs the policy
+        this.taskFields = SparseFields.builder()
+                .fields("id", "title", "description", "dueDate")
+                .field("status", List.of("status"), values -> values[0] == null ? null : ((TaskStatus) values[0]).name())
+                .field("overdue", List.of("isOverdue", "dueDate", "status"), values -> overduePolicy
+                        .isOverdue((Boolean) values[0], (LocalDateTime) values[1], (TaskStatus) values[2]))
+                .field("assigneeId", "assignee.id")
+                .field("assigneeName", List.of("assignee.firstname", "assignee.lastname"),
+                        values -> values[0] == null ? null : values[0] + " " + values[1])
+                .field("projectId", "project.id")
+                .field("projectName", "project.name")
+                .build();
+    }
 
 
     @Transactional
@@ -49,33 +121,126 @@ public class TaskService {
                     .orElseThrow(() -> new EntityNotFoundException("Assignee not found"));
         }
 
-        Task task = new Task();
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setDueDate(request.getDueDate());
-        task.setProject(project);
-        task.setAssignee(assignee);
-        task.setStatus(TaskStatus.PENDING);
+        Task task = buildTask(request, project, assignee);
+        Task savedTask = taskRepository.save(task);
+        moveTaskCounters(projectId, null, TaskStatus.PENDING, 1);
+        overdueTaskScheduler.schedule(savedTask);
+        taskSearchIndex.index(savedTask);
 
         // Adding a task to a closed project forces it to In Progress
-        if (project.getStatus() == ProjectStatus.COMPLETED) {
-            project.setStatus(ProjectStatus.IN_PROGRESS);
-            projectRepository.save(project);
-        }
+        // (after the counter bump, so a concurrent completion sees the new task)
+        reopenIfCompleted(project);
 
-        Task savedTask = taskRepository.save(task);
         return mapToResponse(savedTask);
     }
 
 
-    public PagedData<TaskResponse> getTasksByProject(UUID projectId, Pageable pageable) {
+    /**
+     * Creates many tasks in one go: the project is checked once, all assignees are
+     * resolved with a single IN query and the rows are written as JDBC batch inserts
+     * (hibernate.jdbc.batch_size, ordered inserts).
+     */
+    @Transactional
+    public List<TaskResponse> createTasks(UUID projectId, BulkCreateTaskRequest request) {
+        Project project = getProjectSecurely(projectId);
+        Map<UUID, User> assignees = resolveAssignees(request.getTasks());
+
+        List<Task> tasks = new ArrayList<>(request.getTasks().size());
+        for (CreateTaskRequest item : request.getTasks()) {
+            User assignee = item.getAssigneeId() != null ? assignees.get(item.getAssigneeId()) : null;
+            tasks.add(buildTask(item, project, assignee));
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        moveTaskCounters(projectId, null, TaskStatus.PENDING, savedTasks.size());
+        overdueTaskScheduler.schedule(savedTasks);
+        taskSearchIndex.index(savedTasks);
+
+        // Same rule as single creation, applied once for the whole batch
+        reopenIfCompleted(project);
+        log.info("Created {} tasks in project {}", savedTasks.size(), projectId);
+
+        return savedTasks.stream().map(this::mapToResponse).toList();
+    }
+
+
+    public PagedData<TaskResponse> getTasksByProject(UUID projectId, TaskFilterRequest filter,
+                                                     Pageable pageable, PageTotalMode totalMode) {
         // 1. Security Check: Ensure user owns the project
         getProjectSecurely(projectId);
 
+        if (filter != null && filter.hasFilters()) {
+            return getFilteredTasks(projectId, filter, pageable, totalMode);
+        }
+
         // 2. Fetch Tasks
-        Page<Task> tasksPage = taskRepository.findByProjectId(projectId, pageable);
+        // (projection query: one statement per page, plus the COUNT in EXACT mode)
+        if (totalMode == PageTotalMode.EXACT) {
+            return new PagedData<>(taskRepository.findResponsesByProjectId(projectId, pageable)
+                    .map(overduePolicy::apply));
+        }
+
+        Slice<TaskResponse> tasksSlice = taskRepository.findResponseSliceByProjectId(projectId, pageable)
+                .map(overduePolicy::apply);
+        Long total = pageCountCache.resolve(totalMode, "tasks:project:" + projectId,
+                () -> taskRepository.countByProjectId(projectId));
+        return new PagedData<>(tasksSlice, total);
+    }
+
+
+    /**
+     * Text search within one of the caller's projects: every query term must appear in the
+     * title or description. Served from the in-memory index; while that is still building,
+     * falls back to a LIKE query on the whole query string.
+     */
+    public List<TaskResponse> searchTasks(UUID projectId, String query, int limit) {
+        getProjectSecurely(projectId);
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+
+        Optional<List<UUID>> hits = taskSearchIndex.search(projectId, query, maxResults);
+        if (hits.isEmpty()) {
+            String pattern = "%" + query.toLowerCase(Locale.ROOT).replace("%", "").replace("_", "") + "%";
+            return taskRepository.searchByTextLike(projectId, pattern, PageRequest.ofSize(maxResults)).stream()
+                    .map(this::mapToResponse)
+                    .toList();
+        }
+        if (hits.get().isEmpty()) {
+            return List.of();
+        }
+
+        // Keep the index order (newest first); the project check drops entries the index still holds stale
+        Map<UUID, Task> tasks = loadHits(projectId, hits.get());
+        if (tasks.size() < hits.get().size()) {
+            // Deleted on another instance: drop them from the index and fill the result up once
+            taskSearchIndex.forget(projectId, hits.get().stream().filter(id -> !tasks.containsKey(id)).toList());
+            hits = taskSearchIndex.search(projectId, query, maxResults);
+            tasks.putAll(loadHits(projectId, hits.orElse(List.of()).stream().filter(id -> !tasks.containsKey(id)).toList()));
+        }
+        return hits.orElse(List.of()).stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+
+    /**
+     * Sparse variant of getTasksByProject: only the columns behind the requested fields are
+     * selected and only those fields are serialized.
+     */
+    public PagedData<Map<String, Object>> getTaskFieldsByProject(UUID projectId, TaskFilterRequest filter, String fields,
+                                                                 Pageable pageable, PageTotalMode totalMode) {
+        getProjectSecurely(projectId);
 
-        return new PagedData<>(tasksPage.map(this::mapToResponse));
+        String countKey = "tasks:project:" + projectId + (filter != null && filter.hasFilters() ? ":" + filter : "");
+        return findTaskFields(buildSpecification(projectId, filter), fields, pageable, totalMode, countKey);
+    }
+
+
+    public PagedData<Map<String, Object>> getMyAssignedTaskFields(String fields, Pageable pageable, PageTotalMode totalMode) {
+        User currentUser = getCurrentUser();
+        return findTaskFields(TaskSpecifications.assignedTo(currentUser.getId()), fields, pageable, totalMode,
+                "tasks:assignee:" + currentUser.getId());
     }
 
 
@@ -86,16 +251,59 @@ public class TaskService {
     }
 
 
-    public PagedData<AssignedTaskResponse> getMyAssignedTasks(Pageable pageable) {
+    public PagedData<AssignedTaskResponse> getMyAssignedTasks(Pageable pageable, PageTotalMode totalMode) {
         User currentUser = getCurrentUser();
 
-        Page<Task> tasksPage = taskRepository.findByAssigneeId(currentUser.getId(), pageable);
+        // Rows come back already shaped as the assigned-task DTO (task + assignee + project in one join)
+        if (totalMode == PageTotalMode.EXACT) {
+            return new PagedData<>(taskRepository.findAssignedResponsesByAssigneeId(currentUser.getId(), pageable)
+                    .map(overduePolicy::apply));
+        }
+
+        Slice<AssignedTaskResponse> tasksSlice =
+                taskRepository.findAssignedResponseSliceByAssigneeId(currentUser.getId(), pageable)
+                        .map(overduePolicy::apply);
+        Long total = pageCountCache.resolve(totalMode, "tasks:assignee:" + currentUser.getId(),
+                () -> taskRepository.countByAssigneeId(currentUser.getId()));
+        return new PagedData<>(tasksSlice, total);
+    }
+
+
+    public CursorPage<TaskResponse> scrollTasksByProject(UUID projectId, String cursor, int size) {
+        getProjectSecurely(projectId);
+
+        int pageSize = clampPageSize(size);
+        Pageable limit = PageRequest.ofSize(pageSize + 1); // one extra row tells us if there is a next page
+        List<Task> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = taskRepository.findFirstByProjectIdKeyset(projectId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = taskRepository.findNextByProjectIdKeyset(projectId, after.createdAt(), after.id(), limit);
+        }
+
+        return toCursorPage(rows, pageSize, this::mapToResponse);
+    }
+
+
+    public CursorPage<AssignedTaskResponse> scrollMyAssignedTasks(String cursor, int size) {
+        User currentUser = getCurrentUser();
+
+        int pageSize = clampPageSize(size);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        List<Task> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = taskRepository.findFirstByAssigneeIdKeyset(currentUser.getId(), limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = taskRepository.findNextByAssigneeIdKeyset(currentUser.getId(), after.createdAt(), after.id(), limit);
+        }
 
-        // Map to the new specific DTO
-        return new PagedData<>(tasksPage.map(this::mapToAssignedResponse));
+        return toCursorPage(rows, pageSize, this::mapToAssignedResponse);
     }
 
 
+    @Transactional
     public TaskResponse assignTask(UUID projectId, UUID taskId, AssignTaskRequest request) {
         Task task = getTaskSecurely(projectId, taskId);
 
@@ -106,6 +314,7 @@ public class TaskService {
         // Automatically move to IN_PROGRESS if it was pending
         if (task.getStatus() == TaskStatus.PENDING) {
             task.setStatus(TaskStatus.IN_PROGRESS);
+            moveTaskCounters(projectId, TaskStatus.PENDING, TaskStatus.IN_PROGRESS, 1);
         }
 
         Task savedTask = taskRepository.save(task);
@@ -115,6 +324,7 @@ public class TaskService {
     }
 
 
+    @Transactional
     public TaskResponse updateTask(UUID projectId, UUID taskId, UpdateTaskRequest request) {
         Task task = getTaskSecurely(projectId, taskId);
 
@@ -122,16 +332,31 @@ public class TaskService {
         task.setDescription(request.getDescription());
         if (request.getDueDate() != null) {
             task.setDueDate(request.getDueDate());
+            // Moving the due date into the future clears the flag
+            if (task.isOverdue() && request.getDueDate().isAfter(LocalDateTime.now())) {
+                task.setOverdue(false);
+            }
         }
 
-        return mapToResponse(taskRepository.save(task));
+        Task savedTask = taskRepository.save(task);
+        overdueTaskScheduler.schedule(savedTask);
+        taskSearchIndex.index(savedTask);
+        return mapToResponse(savedTask);
     }
 
 
+    @Transactional
     public TaskResponse cancelTask(UUID projectId, UUID taskId) {
         Task task = getTaskSecurely(projectId, taskId);
+        moveTaskCounters(projectId, task.getStatus(), TaskStatus.CANCELLED, 1);
         task.setStatus(TaskStatus.CANCELLED);
-        return mapToResponse(taskRepository.save(task));
+        overdueTaskScheduler.unschedule(taskId);
+        Task savedTask = taskRepository.save(task);
+
+        // Same rule as bulk cancel: cancelling the last open task closes the project
+        checkAndCompleteProject(task.getProject());
+
+        return mapToResponse(savedTask);
     }
 
 
@@ -139,7 +364,9 @@ public class TaskService {
     public TaskResponse markTaskAsDone(UUID projectId, UUID taskId) {
         Task task = getTaskSecurely(projectId, taskId);
 
+        moveTaskCounters(projectId, task.getStatus(), TaskStatus.COMPLETED, 1);
         task.setStatus(TaskStatus.COMPLETED);
+        overdueTaskScheduler.unschedule(taskId);
         Task savedTask = taskRepository.save(task);
 
         // Check for remaining open tasks
@@ -149,37 +376,254 @@ public class TaskService {
     }
 
 
+    /*
+     * BULK TRANSITIONS
+     * One ownership-checked UPDATE per chunk of IDs and source status, then a single completion
+     * check for the whole batch (instead of a save + count per task). Counters move by the
+     * row count of each statement, so concurrent bulk writes cannot make them drift.
+     * That is the price of exact deltas: a transition runs one UPDATE per other status
+     * (3 per chunk) and a delete one DELETE per status (4 per chunk), plus a counter UPDATE
+     * for each that hit rows; a single statement per chunk could not tell which counter each row left.
+     */
+    @Transactional
+    public BulkOperationResponse completeTasks(UUID projectId, List<UUID> taskIds) {
+        return transitionTasks(projectId, taskIds, TaskStatus.COMPLETED);
+    }
+
+
+    @Transactional
+    public BulkOperationResponse cancelTasks(UUID projectId, List<UUID> taskIds) {
+        return transitionTasks(projectId, taskIds, TaskStatus.CANCELLED);
+    }
+
+
+    @Transactional
+    public BulkOperationResponse assignTasks(UUID projectId, BulkAssignTaskRequest request) {
+        User currentUser = getCurrentUser();
+        User assignee = userRepository.findById(request.getAssigneeId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+
+        List<UUID> ids = request.getTaskIds().stream().distinct().toList();
+        LocalDateTime now = LocalDateTime.now();
+        int affected = 0;
+        for (List<UUID> chunk : Chunks.partition(ids, Chunks.ORACLE_IN_LIMIT)) {
+            // Non-pending rows first, so the rows the second statement starts are not counted twice
+            affected += taskRepository.assignStartedInProject(projectId, currentUser.getId(), chunk, assignee,
+                    TaskStatus.PENDING, now);
+            int started = taskRepository.assignPendingInProject(projectId, currentUser.getId(), chunk, assignee,
+                    TaskStatus.PENDING, TaskStatus.IN_PROGRESS, now);
+            moveTaskCounters(projectId, TaskStatus.PENDING, TaskStatus.IN_PROGRESS, started);
+            affected += started;
+        }
+        log.info("Assigned {} of {} tasks in project {} to user {}", affected, ids.size(), projectId, assignee.getEmail());
+
+        return BulkOperationResponse.builder()
+                .requested(ids.size())
+                .affected(affected)
+                .build();
+    }
+
+
     @Transactional
-    public void deleteTasks(UUID projectId, List<UUID> taskIds) {
+    public BulkOperationResponse deleteTasks(UUID projectId, List<UUID> taskIds) {
         Project project = getProjectSecurely(projectId);
 
-        // Security Check
-        long validCount = taskRepository.countByProjectAndIdIn(projectId, taskIds);
-        if (validCount != taskIds.size()) {
+        List<UUID> ids = taskIds.stream().distinct().toList();
+        List<List<UUID>> chunks = Chunks.partition(ids, Chunks.ORACLE_IN_LIMIT);
+
+        // Security Check (all-or-nothing, before anything is deleted)
+        long validCount = 0;
+        for (List<UUID> chunk : chunks) {
+            validCount += taskRepository.countByProjectAndIdIn(projectId, chunk);
+        }
+        if (validCount != ids.size()) {
             throw new AccessDeniedException("One or more tasks do not belong to the specified project");
         }
 
-        taskRepository.deleteAllById(taskIds);
-        log.info("Deleted {} tasks from project {}", taskIds.size(), projectId);
+        // One DELETE per chunk and status, all inside this transaction; each row count
+        // is what leaves that status counter
+        int deleted = 0;
+        for (List<UUID> chunk : chunks) {
+            for (TaskStatus status : TaskStatus.values()) {
+                int removed = taskRepository.deleteByProjectIdAndIdInAndStatus(projectId, chunk, status);
+                moveTaskCounters(projectId, status, null, removed);
+                deleted += removed;
+            }
+        }
+        overdueTaskScheduler.unschedule(ids);
+        taskSearchIndex.remove(projectId, ids);
+        log.info("Deleted {} tasks from project {}", deleted, projectId);
 
         checkAndCompleteProject(project);
+
+        return BulkOperationResponse.builder()
+                .requested(ids.size())
+                .affected(deleted)
+                .build();
     }
 
     // --- Private Helpers ---
 
+    /**
+     * Filtered variant of the task list: one statement for the page (task + assignee),
+     * plus the COUNT in EXACT mode. Every filter is ANDed with the project id.
+     */
+    private PagedData<TaskResponse> getFilteredTasks(UUID projectId, TaskFilterRequest filter,
+                                                     Pageable pageable, PageTotalMode totalMode) {
+        Specification<Task> spec = buildSpecification(projectId, filter);
+
+        if (totalMode == PageTotalMode.EXACT) {
+            return new PagedData<>(taskRepository.findAll(spec, pageable).map(this::mapToResponse));
+        }
+
+        Slice<TaskResponse> tasksSlice = taskRepository.findSlice(spec, pageable).map(this::mapToResponse);
+        Long total = pageCountCache.resolve(totalMode, "tasks:project:" + projectId + ":" + filter,
+                () -> taskRepository.count(spec));
+        return new PagedData<>(tasksSlice, total);
+    }
+
+    private PagedData<Map<String, Object>> findTaskFields(Specification<Task> spec, String fields, Pageable pageable,
+                                                          PageTotalMode totalMode, String countKey) {
+        Slice<Map<String, Object>> rows = sparseFieldRepository.findSlice(Task.class, taskFields.select(fields), spec, pageable);
+
+        if (totalMode == PageTotalMode.EXACT) {
+            return new PagedData<>(new PageImpl<>(rows.getContent(), pageable, taskRepository.count(spec)));
+        }
+
+        Long total = pageCountCache.resolve(totalMode, countKey, () -> taskRepository.count(spec));
+        return new PagedData<>(rows, total);
+    }
+
+    // Project tasks, narrowed by whichever filters are set (all ANDed)
+    private Specification<Task> buildSpecification(UUID projectId, TaskFilterRequest filter) {
+        Specification<Task> spec = TaskSpecifications.inProject(projectId);
+        if (filter == null) {
+            return spec;
+        }
+        if (filter.getStatus() != null) {
+            spec = spec.and(TaskSpecifications.hasStatus(filter.getStatus()));
+        }
+        if (filter.getAssigneeId() != null) {
+            spec = spec.and(TaskSpecifications.assignedTo(filter.getAssigneeId()));
+        }
+        if (filter.getDueFrom() != null) {
+            spec = spec.and(TaskSpecifications.dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            spec = spec.and(TaskSpecifications.dueBefore(filter.getDueTo()));
+        }
+        if (filter.getOverdue() != null) {
+            boolean overdue = filter.getOverdue();
+            spec = spec.and((root, query, cb) -> overduePolicy.overduePredicate(cb, root, overdue));
+        }
+        return spec;
+    }
+
+    private BulkOperationResponse transitionTasks(UUID projectId, List<UUID> taskIds, TaskStatus status) {
+        Project project = getProjectSecurely(projectId);
+        User currentUser = getCurrentUser();
+
+        List<UUID> ids = taskIds.stream().distinct().toList();
+        LocalDateTime now = LocalDateTime.now();
+        int affected = 0;
+        for (List<UUID> chunk : Chunks.partition(ids, Chunks.ORACLE_IN_LIMIT)) {
+            // Rows already in the target status are not touched
+            for (TaskStatus from : TaskStatus.values()) {
+                if (from == status) {
+                    continue;
+                }
+                int moved = taskRepository.updateStatusFromInProject(projectId, currentUser.getId(), chunk, from, status, now);
+                moveTaskCounters(projectId, from, status, moved);
+                affected += moved;
+            }
+        }
+        overdueTaskScheduler.unschedule(ids); // completed or cancelled tasks can't become overdue
+        log.info("Moved {} of {} tasks in project {} to {}", affected, ids.size(), projectId, status);
+
+        // Completing or cancelling the last open tasks closes the project
+        checkAndCompleteProject(project);
+
+        return BulkOperationResponse.builder()
+                .requested(ids.size())
+                .affected(affected)
+                .build();
+    }
+
+    private Task buildTask(CreateTaskRequest request, Project project, User assignee) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setDueDate(request.getDueDate());
+        task.setProject(project);
+        task.setAssignee(assignee);
+        task.setStatus(TaskStatus.PENDING);
+        return task;
+    }
+
+    private void reopenIfCompleted(Project project) {
+        if (projectRepository.reopenIfCompleted(project.getId()) > 0) {
+            log.info("New task added. Reopened project {}", project.getId());
+        }
+    }
+
+    // One IN query for every distinct assignee of the batch
+    private Map<UUID, User> resolveAssignees(List<CreateTaskRequest> requests) {
+        Set<UUID> assigneeIds = requests.stream()
+                .map(CreateTaskRequest::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (assigneeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, User> assignees = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (assignees.size() != assigneeIds.size()) {
+            throw new EntityNotFoundException("Assignee not found");
+        }
+        return assignees;
+    }
+
     private void checkAndCompleteProject(Project project) {
-        // Count tasks that are NOT (Completed or Cancelled)
-        // i.e., Count PENDING or IN_PROGRESS
-        long openTasks = taskRepository.countByProjectAndStatusIn(
-                project.getId(),
-                Arrays.asList(TaskStatus.PENDING, TaskStatus.IN_PROGRESS)
-        );
+        // Completes the project only if its counters show no PENDING or IN_PROGRESS task,
+        // checked and written atomically by one conditional UPDATE
+        if (projectRepository.completeIfNoOpenTasks(project.getId()) > 0) {
+            log.info("No open tasks remaining. Marked project {} as COMPLETED", project.getId());
+        }
+    }
+
+    /**
+     * Moves {@code count} tasks between two status counters of the project (atomic UPDATE).
+     * A null {@code from} means the tasks are new, a null {@code to} that they were deleted.
+     * The UPDATE holds the project row lock until commit, so task writes in the same project
+     * serialize on it: exact counters (never a lost increment) at the cost of write concurrency.
+     */
+    private void moveTaskCounters(UUID projectId, TaskStatus from, TaskStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
 
-        if (openTasks == 0) {
-            log.info("No open tasks remaining. Marking project {} as COMPLETED", project.getId());
-            project.setStatus(ProjectStatus.COMPLETED);
-            projectRepository.save(project);
+        Map<TaskStatus, Long> delta = new EnumMap<>(TaskStatus.class);
+        if (from != null) {
+            delta.merge(from, -count, Long::sum);
+        }
+        if (to != null) {
+            delta.merge(to, count, Long::sum);
         }
+
+        projectRepository.adjustTaskCounters(projectId,
+                delta.getOrDefault(TaskStatus.PENDING, 0L),
+                delta.getOrDefault(TaskStatus.IN_PROGRESS, 0L),
+                delta.getOrDefault(TaskStatus.COMPLETED, 0L),
+                delta.getOrDefault(TaskStatus.CANCELLED, 0L));
+    }
+
+    private Map<UUID, Task> loadHits(UUID projectId, List<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskRepository.findWithAssigneeByProjectIdAndIdIn(projectId, taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity(), (a, b) -> a, HashMap::new));
     }
 
     private User getCurrentUser() {
@@ -194,13 +638,27 @@ public class TaskService {
     }
 
     private Task getTaskSecurely(UUID projectId, UUID taskId) {
-        // 1. Ensure project belongs to user
-        getProjectSecurely(projectId);
+        // Task must belong to the project and the project to the user (single round trip)
+        User currentUser = getCurrentUser();
+        return taskRepository.findSecurely(taskId, projectId, currentUser.getId())
+                .orElseThrow(() -> new EntityNotFoundException("Task not found in this project or access denied"));
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private <T> CursorPage<T> toCursorPage(List<Task> rows, int pageSize, Function<Task, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Task> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
 
-        // 2. Ensure task belongs to project
-        return taskRepository.findById(taskId)
-                .filter(t -> t.getProject().getId().equals(projectId))
-                .orElseThrow(() -> new EntityNotFoundException("Task not found in this project"));
+        return new CursorPage<>(page.stream().map(mapper).toList(), pageSize, hasNext, nextCursor);
     }
 
     private TaskResponse mapToResponse(Task task) {
@@ -210,7 +668,7 @@ public class TaskService {
                 .description(task.getDescription())
                 .status(task.getStatus().name())
                 .dueDate(task.getDueDate())
-                .isOverdue(task.isOverdue())
+                .isOverdue(overduePolicy.isOverdue(task))
                 .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
                 .assigneeName(task.getAssignee() != null ?
                         task.getAssignee().getFirstname() + " " + task.getAssignee().getLastname() : null)
@@ -224,7 +682,7 @@ public class TaskService {
                 .description(task.getDescription())
                 .status(task.getStatus().name())
                 .dueDate(task.getDueDate())
-                .isOverdue(task.isOverdue())
+                .isOverdue(overduePolicy.isOverdue(task))
                 .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
                 .assigneeName(task.getAssignee() != null ?
                         task.getAssignee().getFirstname() + " " + task.getAssignee().getLastname() : null)
@@ -0,0 +1,121 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.entities.RevokedToken;
+import com.marv.taskmaster.repositories.RevokedTokenRepository;
+import com.marv.taskmaster.utils.BloomFilter;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deny-list of access tokens revoked before their natural expiry.
+ * <p>
+ * Lookups never touch the database: a Bloom filter answers "not revoked" for almost
+ * every token, and only possible hits are confirmed against the expiring jti map.
+ * Both structures only hold revocations whose token is still alive, so their size
+ * follows the number of live revocations. The table is the durable copy: it is
+ * reloaded at startup and periodically (which also picks up other instances' revocations).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.min-capacity:1024}")
+    private int minCapacity;
+
+    // jti -> expiry (epoch millis) of the revoked token
+    private volatile Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter = new BloomFilter(1024, FALSE_POSITIVE_RATE);
+    private volatile int filterCapacity = 1024;
+
+
+    /**
+     * O(1) check used by the JWT filter on every request.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+
+    public synchronized void revoke(String jti, Date expiresAt) {
+        if (jti == null || expiresAt.getTime() <= System.currentTimeMillis() || revoked.containsKey(jti)) {
+            return;
+        }
+
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setJti(jti);
+        revokedToken.setExpiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()));
+        try {
+            revokedTokenRepository.saveAndFlush(revokedToken);
+        } catch (DataIntegrityViolationException e) {
+            // Already revoked through another instance; still track it locally
+            log.debug("Token {} was already revoked", jti);
+        }
+
+        // Filter first, so a reader that finds the jti in the map has also seen it in the filter
+        filter.put(jti);
+        revoked.put(jti, expiresAt.getTime());
+
+        if (revoked.size() > filterCapacity) {
+            rebuild(revoked);
+        }
+        log.info("Revoked token {} (expires at {})", jti, expiresAt);
+    }
+
+
+    /**
+     * Reloads live revocations from the table, drops expired rows and rebuilds
+     * the filter so it never carries entries for tokens that already expired.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:60000}")
+    @Transactional
+    public synchronized void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = revokedTokenRepository.deleteExpired(now);
+
+        Map<String, Long> live = new ConcurrentHashMap<>();
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            live.put(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        rebuild(live);
+
+        log.debug("Revocation list reloaded: {} live entries, {} expired rows purged", live.size(), purged);
+    }
+
+    // --- Private Helpers ---
+
+    private void rebuild(Map<String, Long> entries) {
+        int capacity = Math.max(minCapacity, entries.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        entries.keySet().forEach(rebuilt::put);
+
+        // A reader racing this swap may pair the new filter with the old map for an instant,
+        // which can only delay a revocation learned from another instance, never invent one
+        this.filter = rebuilt;
+        this.revoked = entries;
+        this.filterCapacity = capacity;
+    }
+}
@@ -4,18 +4,24 @@ import com.marv.taskmaster.models.dto.response.generic.PagedData;
 import com.marv.taskmaster.models.dto.response.user.UserDetailResponse;
 import com.marv.taskmaster.models.dto.response.user.UsersResponse;
 import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.enums.PageTotalMode;
 import com.marv.taskmaster.models.security.CustomUserDetails;
+import com.marv.taskmaster.repositories.SparseFieldRepository;
 import com.marv.taskmaster.repositories.UserRepository;
+import com.marv.taskmaster.utils.SparseFields;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -24,8 +30,18 @@ import java.util.UUID;
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PageCountCache pageCountCache;
+    private final SparseFieldRepository sparseFieldRepository;
 
+    // Fields selectable with ?fields= on the user list: exactly those of UsersResponse (never the password hash)
+    private final SparseFields userFields = SparseFields.builder()
+            .fields("id", "firstname", "lastname", "email")
+            .build();
 
+
+    // Login and legacy tokens; findByEmail goes through the natural-id cache
+    // (users.by-email + users regions). A user write invalidates the entries on this node only;
+    // other nodes may serve the old row until users.cache.ttl expires
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
@@ -33,10 +49,29 @@ public class UserService implements UserDetailsService {
         return new CustomUserDetails(user);
     }
 
-    public PagedData<UsersResponse> getAllUsers(Pageable pageable) {
-        Page<User> userPage = userRepository.findAll(pageable);
-        Page<UsersResponse> responsePage = userPage.map(this::mapToUsersResponse);
-        return new PagedData<>(responsePage);
+    public PagedData<UsersResponse> getAllUsers(Pageable pageable, PageTotalMode totalMode) {
+        if (totalMode == PageTotalMode.EXACT) {
+            Page<User> userPage = userRepository.findAll(pageable);
+            Page<UsersResponse> responsePage = userPage.map(this::mapToUsersResponse);
+            return new PagedData<>(responsePage);
+        }
+
+        Slice<User> userSlice = userRepository.findAllAsSlice(pageable);
+        Long total = pageCountCache.resolve(totalMode, "users:all", userRepository::count);
+        return new PagedData<>(userSlice.map(this::mapToUsersResponse), total);
+    }
+
+    // Sparse variant of getAllUsers: selects and returns only the requested fields
+    public PagedData<Map<String, Object>> getAllUserFields(String fields, Pageable pageable, PageTotalMode totalMode) {
+        Slice<Map<String, Object>> rows =
+                sparseFieldRepository.findSlice(User.class, userFields.select(fields), null, pageable);
+
+        if (totalMode == PageTotalMode.EXACT) {
+            return new PagedData<>(new PageImpl<>(rows.getContent(), pageable, userRepository.count()));
+        }
+
+        Long total = pageCountCache.resolve(totalMode, "users:all", userRepository::count);
+        return new PagedData<>(rows, total);
     }
 
     public UserDetailResponse getUserById(UUID id) {
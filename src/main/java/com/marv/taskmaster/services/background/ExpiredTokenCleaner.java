@@ -0,0 +1,37 @@
+package com.marv.taskmaster.services.background;
+
+import com.marv.taskmaster.services.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredTokenCleaner {
+
+    private static final String JOB_NAME = "expired-token-cleanup";
+
+    private final RefreshTokenService refreshTokenService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+
+    @Scheduled(cron = "0 0 3 * * *") // every day at 03:00
+    public void purgeExpiredTokens() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!schedulerLeaseService.tryAcquire(JOB_NAME, Duration.ofMinutes(30))) {
+            return;
+        }
+
+        try {
+            int deleted = refreshTokenService.deleteExpired();
+            log.info("Purged {} expired refresh tokens", deleted);
+        } finally {
+            schedulerLeaseService.release(JOB_NAME, startedAt.plusMinutes(1));
+        }
+    }
+}
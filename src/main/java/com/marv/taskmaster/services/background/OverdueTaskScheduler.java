@@ -0,0 +1,205 @@
+package com.marv.taskmaster.services.background;
+
+import com.marv.taskmaster.models.entities.Task;
+import com.marv.taskmaster.models.enums.TaskStatus;
+import com.marv.taskmaster.repositories.TaskRepository;
+import com.marv.taskmaster.services.TaskOverduePolicy;
+import com.marv.taskmaster.utils.Chunks;
+import com.marv.taskmaster.utils.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flips {@code isOverdue} for tasks at the moment their due date passes.
+ * <p>
+ * Tasks due within the horizon sit in a {@link DelayQueue}; a single worker thread
+ * wakes up when the earliest one becomes due and marks it (plus anything else due by
+ * then, up to a batch) with one UPDATE by id. The map holds the current due time per
+ * task, so rescheduled or closed tasks leave a stale queue entry that is simply skipped.
+ * Changes made inside a transaction only reach the queue once it commits.
+ * {@link TaskOverdueMonitor} keeps running as a low-frequency safety net.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueTaskScheduler {
+
+    private final TaskRepository taskRepository;
+    private final TaskOverduePolicy overduePolicy;
+
+    @Value("${tasks.overdue.horizon:24h}")
+    private Duration horizon;
+
+    @Value("${tasks.overdue.batch-size:100}")
+    private int batchSize;
+
+    private final DelayQueue<QueuedTask> queue = new DelayQueue<>();
+    // taskId -> due time (epoch millis) of the entry that is still valid
+    private final Map<UUID, Long> scheduled = new ConcurrentHashMap<>();
+
+    private volatile Thread worker;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (overduePolicy.isComputed()) {
+            log.info("Overdue status is computed at read time, scheduler not started");
+            return;
+        }
+        loadHorizon();
+
+        Thread thread = new Thread(this::run, "overdue-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+        this.worker = thread;
+        log.info("Overdue scheduler started: {} tasks due within {}", scheduled.size(), horizon);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = this.worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+
+    /**
+     * (Re)schedules a task after it was created or its due date changed.
+     * Tasks beyond the horizon are left to the next horizon load.
+     */
+    public void schedule(Task task) {
+        if (overduePolicy.isComputed()) {
+            return;
+        }
+        UUID taskId = task.getId();
+        if (task.getDueDate() == null || task.isOverdue()
+                || (task.getStatus() != TaskStatus.PENDING && task.getStatus() != TaskStatus.IN_PROGRESS)) {
+            unschedule(taskId);
+            return;
+        }
+
+        long dueAt = toEpochMillis(task.getDueDate());
+        if (dueAt > System.currentTimeMillis() + horizon.toMillis()) {
+            unschedule(taskId);
+            return;
+        }
+        afterCommit(() -> enqueue(taskId, dueAt));
+    }
+
+    public void schedule(Collection<Task> tasks) {
+        tasks.forEach(this::schedule);
+    }
+
+    // Completed, cancelled or deleted tasks can no longer become overdue
+    public void unschedule(UUID taskId) {
+        afterCommit(() -> scheduled.remove(taskId));
+    }
+
+    public void unschedule(Collection<UUID> taskIds) {
+        List<UUID> ids = List.copyOf(taskIds);
+        afterCommit(() -> ids.forEach(scheduled::remove));
+    }
+
+
+    // Pulls in the tasks that entered the horizon since the last load
+    @Scheduled(fixedDelayString = "${tasks.overdue.horizon-refresh-ms:3600000}",
+            initialDelayString = "${tasks.overdue.horizon-refresh-ms:3600000}")
+    public void loadHorizon() {
+        if (overduePolicy.isComputed()) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        for (TaskRepository.DueTask due : taskRepository.findOpenDueBefore(until)) {
+            enqueue(due.getId(), toEpochMillis(due.getDueDate()));
+        }
+        log.debug("Overdue horizon loaded up to {}: {} tasks scheduled", until, scheduled.size());
+    }
+
+    // --- Private Helpers ---
+
+    private void enqueue(UUID taskId, long dueAt) {
+        Long previous = scheduled.put(taskId, dueAt);
+        if (previous == null || previous != dueAt) {
+            queue.put(new QueuedTask(taskId, dueAt));
+        }
+    }
+
+    // A task flagged before its own INSERT/UPDATE commits would be missed by the UPDATE
+    private void afterCommit(Runnable action) {
+        TransactionCallbacks.afterCommit(action);
+    }
+
+    private void run() {
+        List<QueuedTask> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1); // whatever else is already due
+
+                List<UUID> due = new ArrayList<>(batch.size());
+                for (QueuedTask entry : batch) {
+                    // Skip entries superseded by a reschedule, completion or cancellation
+                    if (scheduled.remove(entry.taskId(), entry.dueAt())) {
+                        due.add(entry.taskId());
+                    }
+                }
+                if (!due.isEmpty()) {
+                    markOverdue(due);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Leave it to the sweep; the worker itself must survive a failed batch
+                log.error("Failed to mark {} tasks as overdue", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void markOverdue(List<UUID> taskIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (List<UUID> chunk : Chunks.partition(taskIds, Chunks.ORACLE_IN_LIMIT)) {
+            updated += taskRepository.markOverdueByIds(chunk, now);
+        }
+        log.debug("Marked {} of {} due tasks as OVERDUE", updated, taskIds.size());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record QueuedTask(UUID taskId, long dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAt, ((QueuedTask) other).dueAt);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.marv.taskmaster.services.background;
+
+import com.marv.taskmaster.models.entities.SchedulerLease;
+import com.marv.taskmaster.repositories.SchedulerLeaseRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Leader election for scheduled jobs, using a lease row per job in the application database.
+ * <p>
+ * Every instance fires the same {@code @Scheduled} methods; only the one whose conditional
+ * UPDATE takes the lease runs the job. A crashed leader simply lets its lease run out,
+ * so no external coordinator is needed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    // Unique per running instance (a restarted instance is a new owner)
+    @Getter
+    private final String instanceId = hostname() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+
+    /**
+     * Tries to become the leader of a job for at most {@code lockAtMostFor}
+     * (the upper bound on a run, after which another instance may take over).
+     */
+    public boolean tryAcquire(String name, Duration lockAtMostFor) {
+        ensureLeaseRow(name);
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean acquired = schedulerLeaseRepository.tryAcquire(name, instanceId, now, now.plus(lockAtMostFor)) == 1;
+        if (!acquired) {
+            log.debug("Job {} is running on another instance, skipping", name);
+        }
+        return acquired;
+    }
+
+
+    /**
+     * Ends the run. The lease is kept until {@code notBefore}, so instances whose clock
+     * fires a moment later do not run the same schedule slot again.
+     */
+    public void release(String name, LocalDateTime notBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLeaseRepository.release(name, instanceId, notBefore.isAfter(now) ? notBefore : now);
+    }
+
+    // --- Private Helpers ---
+
+    private void ensureLeaseRow(String name) {
+        if (schedulerLeaseRepository.existsByName(name)) {
+            return;
+        }
+
+        SchedulerLease lease = new SchedulerLease();
+        lease.setName(name);
+        lease.setLockedUntil(LocalDateTime.now().minusSeconds(1));
+        try {
+            schedulerLeaseRepository.saveAndFlush(lease);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it first
+            log.debug("Lease row for job {} already exists", name);
+        }
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.marv.taskmaster.services.background;
+
+import com.marv.taskmaster.repositories.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repairs drift between the task counters on each project and the tasks table.
+ * <p>
+ * Projects are walked in id order, one batch at a time. Only batches that actually
+ * drifted are rewritten, and each rewrite commits on its own, so the job never holds
+ * locks on more than one batch of project rows.
+ * <p>
+ * The drifted rows are locked before they are recounted. Without the lock, a recount
+ * blocked behind a writer that had already moved a counter would still write totals
+ * read before that writer committed, and lose its change. Writers that have not reached
+ * the project row yet are fine either way: their delta lands on top of the new totals.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCounterReconciler {
+
+    private static final String JOB_NAME = "task-counter-reconcile";
+
+    private final ProjectRepository projectRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tasks.counters.reconcile-batch-size:500}")
+    private int batchSize;
+
+
+    // Also runs at startup so projects created before the counters existed are filled in
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${tasks.counters.reconcile-cron:0 30 3 * * *}") // every day at 03:30
+    public void reconcileTaskCounters() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!schedulerLeaseService.tryAcquire(JOB_NAME, Duration.ofMinutes(30))) {
+            return;
+        }
+
+        try {
+            reconcile();
+        } finally {
+            schedulerLeaseService.release(JOB_NAME, startedAt.plusMinutes(1));
+        }
+    }
+
+    // --- Private Helpers ---
+
+    private void reconcile() {
+        int batch = Math.max(1, Math.min(batchSize, 1000)); // ids go into an IN list
+        int scanned = 0;
+        int repaired = 0;
+
+        List<UUID> ids = projectRepository.findIdBatch(PageRequest.ofSize(batch));
+        while (!ids.isEmpty()) {
+            scanned += ids.size();
+
+            List<UUID> drifted = projectRepository.findIdsWithCounterDrift(ids);
+            if (!drifted.isEmpty()) {
+                repaired += recount(drifted);
+            }
+
+            if (ids.size() < batch) {
+                break;
+            }
+            ids = projectRepository.findIdBatchAfter(ids.get(ids.size() - 1), PageRequest.ofSize(batch));
+        }
+
+        if (repaired > 0) {
+            log.warn("Repaired task counters on {} of {} projects", repaired, scanned);
+        } else {
+            log.debug("Task counters consistent on all {} projects", scanned);
+        }
+    }
+
+    private int recount(List<UUID> ids) {
+        Integer recounted = transactionTemplate.execute(status -> {
+            List<UUID> locked = projectRepository.lockForRecount(ids);
+            return locked.isEmpty() ? 0 : projectRepository.recountTaskCounters(locked);
+        });
+        return recounted != null ? recounted : 0;
+    }
+}
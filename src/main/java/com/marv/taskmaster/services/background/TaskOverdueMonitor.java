@@ -1,36 +1,107 @@
 package com.marv.taskmaster.services.background;
 
 import com.marv.taskmaster.repositories.TaskRepository;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import com.marv.taskmaster.services.TaskOverduePolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TaskOverdueMonitor {
 
+    private static final String JOB_NAME = "task-overdue-sweep";
+
     private final TaskRepository taskRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final TaskOverduePolicy overduePolicy;
+
+    private final Counter rowsCounter;
+    private final Counter chunksCounter;
+    private final Timer runTimer;
+
+    // Rows flagged per statement / commit
+    @Value("${tasks.overdue.sweep-chunk-size:500}")
+    private int chunkSize;
+
+    // Upper bound on one run; after this another instance may take the lease over
+    @Value("${tasks.overdue.sweep-lock-at-most:10m}")
+    private Duration lockAtMostFor;
 
+    // Minimum time the lease is kept, so other instances skip the same schedule slot
+    @Value("${tasks.overdue.sweep-lock-at-least:30s}")
+    private Duration lockAtLeastFor;
 
-    @Scheduled(cron = "0 */1 * * * *") // every min
-    @Transactional
+    public TaskOverdueMonitor(TaskRepository taskRepository,
+                              SchedulerLeaseService schedulerLeaseService,
+                              TaskOverduePolicy overduePolicy,
+                              MeterRegistry registry) {
+        this.taskRepository = taskRepository;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.overduePolicy = overduePolicy;
+        this.rowsCounter = Counter.builder("tasks.overdue.sweep.rows")
+                .description("Tasks flagged as overdue by the sweep")
+                .register(registry);
+        this.chunksCounter = Counter.builder("tasks.overdue.sweep.chunks")
+                .description("UPDATE statements (each committed separately) run by the sweep")
+                .register(registry);
+        this.runTimer = Timer.builder("tasks.overdue.sweep.duration")
+                .description("Duration of one overdue sweep on the leader instance")
+                .register(registry);
+    }
+
+
+    // Safety net only: OverdueTaskScheduler flags tasks the moment they become due
+    @Scheduled(cron = "${tasks.overdue.sweep-cron:0 */15 * * * *}") // every 15 min
     public void checkAndMarkOverdueTasks() {
-        log.info("Running background task: Checking for overdue tasks...");
+        // Nothing to write when overdue status is derived at read time
+        if (overduePolicy.isComputed()) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!schedulerLeaseService.tryAcquire(JOB_NAME, lockAtMostFor)) {
+            return;
+        }
+
+        try {
+            log.info("Running background task: Checking for overdue tasks...");
+            runTimer.record(() -> sweep(startedAt));
+        } finally {
+            schedulerLeaseService.release(JOB_NAME, startedAt.plus(lockAtLeastFor));
+        }
+    }
+
+    // --- Private Helpers ---
+
+    private void sweep(LocalDateTime now) {
+        long startNanos = System.nanoTime();
+        int updatedCount = 0;
+        int chunks = 0;
 
-        LocalDateTime now = LocalDateTime.now();
+        // Bounded chunks, each in its own transaction, until a chunk comes back short
+        int updated;
+        do {
+            updated = taskRepository.markOverdueTasksChunk(now, chunkSize, true, false);
+            updatedCount += updated;
+            chunks++;
+        } while (updated == chunkSize);
 
-        // Execute bulk update
-        int updatedCount = taskRepository.markOverdueTasks(now);
+        rowsCounter.increment(updatedCount);
+        chunksCounter.increment(chunks);
 
         if (updatedCount > 0) {
-            log.info("Marked {} tasks as OVERDUE at {}", updatedCount, now);
+            log.info("Marked {} tasks as OVERDUE at {} ({} chunks, {} ms)",
+                    updatedCount, now, chunks, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
         } else {
             log.debug("No new overdue tasks found.");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,483 @@
+package com.marv.taskmaster.services.search;
+
+import com.marv.taskmaster.models.entities.Task;
+import com.marv.taskmaster.repositories.ProjectRepository;
+import com.marv.taskmaster.repositories.TaskRepository;
+import com.marv.taskmaster.utils.PostingList;
+import com.marv.taskmaster.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over task titles and descriptions.
+ * <p>
+ * One partition per project maps each term to a {@link PostingList} of partition-local doc ids,
+ * so a search only ever touches the postings of a single project. Task changes are applied
+ * after their transaction commits; an update gets a fresh doc id and the old one becomes a
+ * tombstone that is dropped when the partition compacts. The index is rebuilt from the
+ * database at startup (partitions in parallel); until then searches report "not ready"
+ * and the caller falls back to the database.
+ * <p>
+ * Every instance holds its own index, so writes made on other instances are picked up by
+ * polling the tasks table for rows whose updated_at moved past the last poll (minus an
+ * overlap for late commits and clock skew). A task is re-indexed only if its text actually
+ * changed. Deletes leave no row to poll; a hit whose task no longer exists is dropped by
+ * the caller through {@link #forget}.
+ */
+@Service
+@Slf4j
+public class TaskSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 40;
+    private static final int REBUILD_BATCH = 1000;
+    private static final int SYNC_BATCH = 1000;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final int rebuildThreads;
+    private final Duration syncOverlap;
+
+    private final Map<UUID, Partition> partitions = new ConcurrentHashMap<>();
+
+    // Writes that arrive while the startup rebuild runs, replayed once it is done
+    private final Queue<Runnable> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final Object stateLock = new Object();
+    private volatile boolean ready;
+    private volatile boolean failed;
+
+    // updated_at up to which changes from any instance have been applied
+    private volatile LocalDateTime syncedUpTo;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           ProjectRepository projectRepository,
+                           @Value("${tasks.search.rebuild-threads:0}") int rebuildThreads,
+                           @Value("${tasks.search.sync-overlap:1m}") Duration syncOverlap) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+        this.syncOverlap = syncOverlap;
+    }
+
+
+    public void index(Task task) {
+        UUID projectId = task.getProject().getId();
+        UUID taskId = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        TransactionCallbacks.afterCommit(() -> apply(() -> put(projectId, taskId, title, description)));
+    }
+
+    public void index(Collection<Task> tasks) {
+        tasks.forEach(this::index);
+    }
+
+    public void remove(UUID projectId, Collection<UUID> taskIds) {
+        List<UUID> ids = List.copyOf(taskIds);
+        TransactionCallbacks.afterCommit(() -> apply(() -> {
+            Partition partition = partitions.get(projectId);
+            if (partition != null) {
+                ids.forEach(partition::remove);
+            }
+        }));
+    }
+
+
+    /**
+     * Drops tasks that turned out not to exist any more (deleted on another instance).
+     * Applied immediately, without a transaction.
+     */
+    public void forget(UUID projectId, Collection<UUID> taskIds) {
+        apply(() -> {
+            Partition partition = partitions.get(projectId);
+            if (partition != null) {
+                taskIds.forEach(partition::remove);
+            }
+        });
+    }
+
+
+    /**
+     * Tasks of the project whose title or description contain every term of the query,
+     * newest first. Empty when the index is not ready yet (or failed to build).
+     */
+    public Optional<List<UUID>> search(UUID projectId, String query, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Set<String> terms = tokenize(query);
+        Partition partition = partitions.get(projectId);
+        if (terms.isEmpty() || partition == null) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(partition.search(terms, limit));
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(this::rebuild, "task-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+
+    /**
+     * Applies task changes committed by any instance since the last run. Runs on every
+     * instance (no lease): each one keeps its own index in step with the database.
+     */
+    @Scheduled(fixedDelayString = "${tasks.search.sync-interval-ms:5000}")
+    public void syncChanges() {
+        LocalDateTime since = syncedUpTo;
+        if (!ready || since == null) {
+            return;
+        }
+
+        since = since.minus(syncOverlap);
+        LocalDateTime latest = syncedUpTo;
+        int changed = 0;
+        List<TaskRepository.TaskChange> rows = taskRepository.findChangesSince(since, PageRequest.ofSize(SYNC_BATCH));
+        while (!rows.isEmpty()) {
+            for (TaskRepository.TaskChange row : rows) {
+                if (put(row.getProjectId(), row.getId(), row.getTitle(), row.getDescription())) {
+                    changed++;
+                }
+                if (row.getUpdatedAt().isAfter(latest)) {
+                    latest = row.getUpdatedAt();
+                }
+            }
+            if (rows.size() < SYNC_BATCH) {
+                break;
+            }
+            TaskRepository.TaskChange last = rows.get(rows.size() - 1);
+            rows = taskRepository.findChangesAfter(last.getUpdatedAt(), last.getId(), PageRequest.ofSize(SYNC_BATCH));
+        }
+
+        syncedUpTo = latest;
+        if (changed > 0) {
+            log.debug("Task search index: {} changed tasks picked up since {}", changed, since);
+        }
+    }
+
+    // --- Private Helpers ---
+
+    private void rebuild() {
+        long startNanos = System.nanoTime();
+        // Anything committed after this point is also seen by the first sync
+        LocalDateTime startedAt = LocalDateTime.now();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(rebuildThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-search-rebuild-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<Integer>> builds = new ArrayList<>();
+            List<UUID> projectIds = projectRepository.findIdBatch(PageRequest.ofSize(REBUILD_BATCH));
+            while (!projectIds.isEmpty()) {
+                for (UUID projectId : projectIds) {
+                    builds.add(pool.submit(() -> buildPartition(projectId)));
+                }
+                if (projectIds.size() < REBUILD_BATCH) {
+                    break;
+                }
+                projectIds = projectRepository.findIdBatchAfter(projectIds.get(projectIds.size() - 1),
+                        PageRequest.ofSize(REBUILD_BATCH));
+            }
+
+            long tasks = 0;
+            for (Future<Integer> build : builds) {
+                tasks += build.get();
+            }
+            syncedUpTo = startedAt;
+            markReady();
+            log.info("Task search index built: {} tasks in {} projects ({} ms, {} threads)",
+                    tasks, builds.size(), Duration.ofNanos(System.nanoTime() - startNanos).toMillis(), rebuildThreads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(e);
+        } catch (ExecutionException | RuntimeException e) {
+            markFailed(e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int buildPartition(UUID projectId) {
+        Partition partition = new Partition();
+        // Oldest first, so doc ids (and with them search results) follow creation order
+        List<TaskRepository.TaskText> rows = taskRepository.findTextByProjectId(projectId);
+        for (TaskRepository.TaskText row : rows) {
+            partition.put(row.getId(), textHash(row.getTitle(), row.getDescription()),
+                    () -> tokenize(text(row.getTitle(), row.getDescription())));
+        }
+        partitions.put(projectId, partition);
+        return rows.size();
+    }
+
+    // Returns whether the text changed (and the task was re-indexed)
+    private boolean put(UUID projectId, UUID taskId, String title, String description) {
+        return partition(projectId).put(taskId, textHash(title, description), () -> tokenize(text(title, description)));
+    }
+
+    private void apply(Runnable write) {
+        synchronized (stateLock) {
+            if (failed) {
+                return;
+            }
+            if (!ready) {
+                pendingWrites.add(write);
+                return;
+            }
+        }
+        write.run();
+    }
+
+    private void markReady() {
+        synchronized (stateLock) {
+            Runnable write;
+            while ((write = pendingWrites.poll()) != null) {
+                write.run();
+            }
+            ready = true;
+        }
+    }
+
+    private void markFailed(Exception e) {
+        synchronized (stateLock) {
+            failed = true;
+            pendingWrites.clear();
+            partitions.clear();
+        }
+        log.error("Task search index could not be built, searches fall back to the database", e);
+    }
+
+    private Partition partition(UUID projectId) {
+        return partitions.computeIfAbsent(projectId, id -> new Partition());
+    }
+
+    private static String text(String title, String description) {
+        return title + " " + (description == null ? "" : description);
+    }
+
+    // 64-bit FNV-1a over title and description; tells whether a polled row changed
+    static long textHash(String title, String description) {
+        long hash = 0xcbf29ce484222325L;
+        String text = title + '\u0000' + (description == null ? "" : description);
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                terms.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Index of one project. Doc ids are handed out sequentially, which keeps every
+     * posting list sorted and lets it be delta-encoded.
+     */
+    static final class Partition {
+
+        private static final int MIN_DEAD_DOCS_TO_COMPACT = 1024;
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private Map<String, PostingList> postings = new HashMap<>();
+        private Map<UUID, Integer> docByTask = new HashMap<>();
+        private ArrayList<UUID> taskByDoc = new ArrayList<>(); // null = removed (tombstone)
+        private long[] hashByDoc = new long[16]; // text hash of each doc, parallel to taskByDoc
+        private int deadDocs;
+
+        /**
+         * Indexes the task unless it is already indexed with the same text hash.
+         * Terms are only computed when the task is (re-)indexed.
+         */
+        boolean put(UUID taskId, long textHash, Supplier<Set<String>> terms) {
+            lock.writeLock().lock();
+            try {
+                Integer current = docByTask.get(taskId);
+                if (current != null && hashByDoc[current] == textHash) {
+                    return false;
+                }
+
+                removeDoc(taskId);
+                int docId = taskByDoc.size();
+                taskByDoc.add(taskId);
+                docByTask.put(taskId, docId);
+                if (docId == hashByDoc.length) {
+                    hashByDoc = Arrays.copyOf(hashByDoc, docId * 2);
+                }
+                hashByDoc[docId] = textHash;
+                for (String term : terms.get()) {
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docId);
+                }
+                compactIfNeeded();
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(UUID taskId) {
+            lock.writeLock().lock();
+            try {
+                removeDoc(taskId);
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Newest matches first, stopping as soon as {@code limit} live tasks are found.
+         * The lists are intersected with descending cursors (rarest term drives): each cursor
+         * jumps straight to the largest id not above the current candidate, so blocks that
+         * cannot contain a match are never decoded.
+         */
+        List<UUID> search(Set<String> terms, int limit) {
+            lock.readLock().lock();
+            try {
+                List<PostingList> lists = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    PostingList list = postings.get(term);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists.add(list);
+                }
+                lists.sort(Comparator.comparingInt(PostingList::size));
+
+                PostingList.Cursor[] cursors = new PostingList.Cursor[lists.size()];
+                for (int i = 0; i < cursors.length; i++) {
+                    cursors[i] = lists.get(i).reverseCursor();
+                }
+
+                List<UUID> taskIds = new ArrayList<>(Math.min(limit, lists.get(0).size()));
+                int target = Integer.MAX_VALUE;
+                while (taskIds.size() < limit) {
+                    int candidate = cursors[0].seek(target);
+                    if (candidate < 0) {
+                        break;
+                    }
+
+                    int next = candidate;
+                    for (int i = 1; i < cursors.length && next == candidate; i++) {
+                        next = cursors[i].seek(candidate);
+                    }
+                    if (next < 0) {
+                        break;
+                    }
+                    if (next != candidate) {
+                        // Some list has nothing between next and candidate
+                        target = next;
+                        continue;
+                    }
+
+                    UUID taskId = taskByDoc.get(candidate);
+                    if (taskId != null) {
+                        taskIds.add(taskId);
+                    }
+                    target = candidate - 1;
+                }
+                return taskIds;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void removeDoc(UUID taskId) {
+            Integer docId = docByTask.remove(taskId);
+            if (docId != null) {
+                taskByDoc.set(docId, null);
+                deadDocs++;
+            }
+        }
+
+        // Drops tombstones once they make up half of the partition, renumbering live docs in order
+        private void compactIfNeeded() {
+            if (deadDocs < MIN_DEAD_DOCS_TO_COMPACT || deadDocs * 2 < taskByDoc.size()) {
+                return;
+            }
+
+            int[] remap = new int[taskByDoc.size()];
+            ArrayList<UUID> liveTasks = new ArrayList<>(taskByDoc.size() - deadDocs);
+            long[] liveHashes = new long[Math.max(16, taskByDoc.size() - deadDocs)];
+            Map<UUID, Integer> liveDocs = new HashMap<>();
+            for (int docId = 0; docId < taskByDoc.size(); docId++) {
+                UUID taskId = taskByDoc.get(docId);
+                if (taskId == null) {
+                    remap[docId] = -1;
+                } else {
+                    remap[docId] = liveTasks.size();
+                    liveHashes[liveTasks.size()] = hashByDoc[docId];
+                    liveDocs.put(taskId, liveTasks.size());
+                    liveTasks.add(taskId);
+                }
+            }
+
+            Map<String, PostingList> compacted = new HashMap<>();
+            postings.forEach((term, list) -> {
+                PostingList rewritten = new PostingList();
+                for (int docId : list.toArray()) {
+                    if (remap[docId] >= 0) {
+                        rewritten.add(remap[docId]);
+                    }
+                }
+                if (!rewritten.isEmpty()) {
+                    compacted.put(term, rewritten);
+                }
+            });
+
+            this.postings = compacted;
+            this.docByTask = liveDocs;
+            this.taskByDoc = liveTasks;
+            this.hashByDoc = liveHashes;
+            this.deadDocs = 0;
+        }
+    }
+}
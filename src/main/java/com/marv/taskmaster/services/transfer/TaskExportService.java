@@ -0,0 +1,179 @@
+package com.marv.taskmaster.services.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marv.taskmaster.models.enums.TaskFileFormat;
+import com.marv.taskmaster.models.enums.TaskStatus;
+import com.marv.taskmaster.models.security.CustomUserDetails;
+import com.marv.taskmaster.repositories.ProjectRepository;
+import com.marv.taskmaster.repositories.TaskRepository;
+import com.marv.taskmaster.services.TaskOverduePolicy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams every task of a project to the client as NDJSON or CSV.
+ * <p>
+ * Ownership is checked on the request thread; the rows are then read on the async
+ * response thread through a database cursor and written out one at a time, so neither
+ * the result set nor the response body is ever held in memory.
+ */
+@Service
+@Slf4j
+public class TaskExportService {
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,dueDate,overdue,assigneeId,assigneeEmail,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskOverduePolicy overduePolicy;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             ProjectRepository projectRepository,
+                             TaskOverduePolicy overduePolicy,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.overduePolicy = overduePolicy;
+        this.objectMapper = objectMapper;
+
+        // The cursor only lives as long as the transaction, so the whole write runs inside one
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * One NDJSON line per task. Field names match the CSV header.
+     */
+    record ExportLine(UUID id, String title, String description, TaskStatus status,
+                      LocalDateTime dueDate, boolean overdue, UUID assigneeId, String assigneeEmail,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+
+    /**
+     * Validates access up front (so a missing project is still a plain 404) and returns
+     * the body that performs the actual export once the response is committed.
+     */
+    public StreamingResponseBody exportTasks(UUID projectId, TaskFileFormat format) {
+        UUID ownerId = getCurrentUserId();
+        projectRepository.findByIdAndOwnerId(projectId, ownerId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found or access denied"));
+
+        return outputStream -> {
+            long started = System.currentTimeMillis();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+            Long written = readOnlyTransaction.execute(status -> {
+                try (Stream<TaskRepository.ExportRow> rows = taskRepository.streamExportRows(projectId)) {
+                    return writeRows(rows.iterator(), format, writer);
+                } catch (IOException e) {
+                    // Usually the client went away; the cursor is closed by try-with-resources
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+            log.info("Exported {} tasks of project {} as {} in {} ms",
+                    written, projectId, format, System.currentTimeMillis() - started);
+        };
+    }
+
+    // --- Private Helpers ---
+
+    private long writeRows(Iterator<TaskRepository.ExportRow> rows, TaskFileFormat format, Writer writer) throws IOException {
+        if (format == TaskFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        while (rows.hasNext()) {
+            ExportLine line = toLine(rows.next());
+            if (format == TaskFileFormat.CSV) {
+                writeCsv(line, writer);
+            } else {
+                writeJson(line, writer);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private ExportLine toLine(TaskRepository.ExportRow row) {
+        return new ExportLine(
+                row.getId(),
+                row.getTitle(),
+                row.getDescription(),
+                row.getStatus(),
+                row.getDueDate(),
+                overduePolicy.isOverdue(row.getOverdue(), row.getDueDate(), row.getStatus()),
+                row.getAssigneeId(),
+                row.getAssigneeEmail(),
+                row.getCreatedAt(),
+                row.getUpdatedAt()
+        );
+    }
+
+    private void writeJson(ExportLine line, Writer writer) throws IOException {
+        try {
+            writer.write(objectMapper.writeValueAsString(line));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task " + line.id(), e);
+        }
+        writer.write('\n');
+    }
+
+    private void writeCsv(ExportLine line, Writer writer) throws IOException {
+        writer.write(String.join(",",
+                csv(line.id()),
+                csv(line.title()),
+                csv(line.description()),
+                csv(line.status()),
+                csv(line.dueDate()),
+                csv(line.overdue()),
+                csv(line.assigneeId()),
+                csv(line.assigneeEmail()),
+                csv(line.createdAt()),
+                csv(line.updatedAt())
+        ));
+        writer.write('\n');
+    }
+
+    // RFC 4180: quote values containing a separator, quote or line break, doubling inner quotes
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return ((CustomUserDetails) principal).getUser().getId();
+    }
+}
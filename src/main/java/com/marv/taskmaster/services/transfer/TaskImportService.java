@@ -0,0 +1,364 @@
+package com.marv.taskmaster.services.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marv.taskmaster.models.dto.request.task.TaskImportRow;
+import com.marv.taskmaster.models.dto.response.task.TaskImportResponse;
+import com.marv.taskmaster.models.entities.Project;
+import com.marv.taskmaster.models.entities.Task;
+import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.enums.TaskFileFormat;
+import com.marv.taskmaster.models.enums.TaskStatus;
+import com.marv.taskmaster.models.security.CustomUserDetails;
+import com.marv.taskmaster.repositories.ProjectRepository;
+import com.marv.taskmaster.repositories.UserRepository;
+import com.marv.taskmaster.services.background.OverdueTaskScheduler;
+import com.marv.taskmaster.services.search.TaskSearchIndex;
+import com.marv.taskmaster.utils.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Loads tasks into a project from a CSV or NDJSON upload.
+ * <p>
+ * The file is parsed one row at a time and every row is validated like a single task
+ * creation. Valid rows are written in batches, each in its own transaction, as JDBC batch
+ * inserts with the persistence context flushed and cleared every JDBC batch. Only the
+ * current batch, a bounded assignee cache and the first few row errors are kept in memory,
+ * whatever the file size. Batches committed before a failure stay committed; the
+ * response reports how many rows made it in.
+ */
+@Service
+@Slf4j
+public class TaskImportService {
+
+    // Distinct assignees remembered per import (email or ID -> user ID, empty when unknown)
+    private static final int ASSIGNEE_CACHE_SIZE = 10_000;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final OverdueTaskScheduler overdueTaskScheduler;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate batchTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Rows committed per transaction
+    @Value("${tasks.import.batch-size:500}")
+    private int batchSize;
+
+    // Persistence context is flushed and cleared after this many inserts (one JDBC batch)
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int flushSize;
+
+    @Value("${tasks.import.max-errors:100}")
+    private int maxErrors;
+
+    // Longest accepted CSV record / NDJSON line, in characters
+    @Value("${tasks.import.max-row-length:65536}")
+    private int maxRowLength;
+
+    public TaskImportService(ProjectRepository projectRepository,
+                             UserRepository userRepository,
+                             OverdueTaskScheduler overdueTaskScheduler,
+                             TaskSearchIndex taskSearchIndex,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.overdueTaskScheduler = overdueTaskScheduler;
+        this.taskSearchIndex = taskSearchIndex;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+
+    public TaskImportResponse importTasks(UUID projectId, TaskFileFormat format, InputStream input) {
+        UUID ownerId = getCurrentUserId();
+        projectRepository.findByIdAndOwnerId(projectId, ownerId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found or access denied"));
+
+        long started = System.currentTimeMillis();
+        ImportRun run = new ImportRun(projectId);
+        Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            if (format == TaskFileFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the uploaded file", e);
+        }
+        run.flush();
+
+        log.info("Imported {} of {} rows into project {} as {} in {} ms ({} rejected)",
+                run.imported, run.imported + run.failed, projectId, format, System.currentTimeMillis() - started, run.failed);
+        return run.toResponse();
+    }
+
+    // --- Private Helpers ---
+
+    private void readCsv(Reader reader, ImportRun run) throws IOException {
+        CsvReader csv = new CsvReader(reader, maxRowLength);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // A UTF-8 BOM (Excel) would otherwise end up in the first column name
+            columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must contain a 'title' column");
+        }
+
+        while (true) {
+            long line = csv.getLineNumber();
+            List<String> record;
+            try {
+                record = csv.readRecord();
+            } catch (IllegalArgumentException e) {
+                // The rest of the file can no longer be split into rows reliably
+                run.reject(line, e.getMessage() + "; import stopped");
+                return;
+            }
+            if (record == null) {
+                return;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            TaskImportRow row = new TaskImportRow();
+            try {
+                row.setTitle(column(record, columns, "title"));
+                row.setDescription(column(record, columns, "description"));
+                String dueDate = column(record, columns, "dueDate");
+                row.setDueDate(dueDate == null ? null : LocalDateTime.parse(dueDate));
+                String assigneeId = column(record, columns, "assigneeId");
+                row.setAssigneeId(assigneeId == null ? null : UUID.fromString(assigneeId));
+                row.setAssigneeEmail(column(record, columns, "assigneeEmail"));
+            } catch (DateTimeParseException e) {
+                run.reject(line, "dueDate must be an ISO date-time, e.g. 2030-01-31T17:00:00");
+                continue;
+            } catch (IllegalArgumentException e) {
+                run.reject(line, "assigneeId must be a UUID");
+                continue;
+            }
+            run.accept(line, row);
+        }
+    }
+
+    private void readNdjson(Reader reader, ImportRun run) throws IOException {
+        StringBuilder buffer = new StringBuilder();
+        long line = 0;
+        while (readLine(reader, buffer)) {
+            line++;
+            if (buffer.length() > maxRowLength) {
+                run.reject(line, "Line exceeds " + maxRowLength + " characters");
+                continue;
+            }
+            String json = buffer.toString().trim();
+            if (json.isEmpty()) {
+                continue;
+            }
+
+            try {
+                run.accept(line, objectMapper.readValue(json, TaskImportRow.class));
+            } catch (JsonProcessingException e) {
+                run.reject(line, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // Reads up to the next line break; characters past maxRowLength are skipped, not buffered
+    private boolean readLine(Reader reader, StringBuilder buffer) throws IOException {
+        buffer.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n') {
+            if (buffer.length() <= maxRowLength) {
+                buffer.append((char) c);
+            }
+            c = reader.read();
+        }
+        return true;
+    }
+
+    private String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return ((CustomUserDetails) principal).getUser().getId();
+    }
+
+    /**
+     * State of one import: the pending batch, the assignee cache and the running totals.
+     */
+    private class ImportRun {
+
+        private final UUID projectId;
+        private final List<TaskImportRow> pending = new ArrayList<>();
+        private final List<TaskImportResponse.RowError> errors = new ArrayList<>();
+        private final Map<String, Optional<UUID>> assignees = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<UUID>> eldest) {
+                return size() > ASSIGNEE_CACHE_SIZE;
+            }
+        };
+
+        private long imported;
+        private long failed;
+
+        ImportRun(UUID projectId) {
+            this.projectId = projectId;
+        }
+
+        void accept(long line, TaskImportRow row) {
+            Set<ConstraintViolation<TaskImportRow>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+
+            // An explicit ID wins over the email; either way the user must exist
+            if (row.getAssigneeId() != null || row.getAssigneeEmail() != null) {
+                Optional<UUID> assigneeId = resolveAssignee(row);
+                if (assigneeId.isEmpty()) {
+                    reject(line, "Assignee not found");
+                    return;
+                }
+                row.setAssigneeId(assigneeId.get());
+            }
+
+            pending.add(row);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(new TaskImportResponse.RowError(line, message));
+            }
+            failed++;
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            int written = batchTransaction.execute(status -> {
+                List<Task> tasks = new ArrayList<>(pending.size());
+                for (TaskImportRow row : pending) {
+                    tasks.add(persist(row));
+                    if (tasks.size() % flushSize == 0) {
+                        // One JDBC batch out, and the persistence context stays small
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+
+                projectRepository.adjustTaskCounters(projectId, tasks.size(), 0, 0, 0);
+                overdueTaskScheduler.schedule(tasks);
+                taskSearchIndex.index(tasks);
+
+                // Same rule as single creation: new tasks reopen a completed project
+                if (projectRepository.reopenIfCompleted(projectId) > 0) {
+                    log.info("Imported tasks reopened project {}", projectId);
+                }
+                return tasks.size();
+            });
+
+            imported += written;
+            pending.clear();
+            log.info("Import into project {}: {} tasks written, {} rows rejected so far", projectId, imported, failed);
+        }
+
+        TaskImportResponse toResponse() {
+            return TaskImportResponse.builder()
+                    .totalRows(imported + failed)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+
+        private Task persist(TaskImportRow row) {
+            Task task = new Task();
+            task.setTitle(row.getTitle());
+            task.setDescription(row.getDescription());
+            task.setDueDate(row.getDueDate());
+            task.setStatus(TaskStatus.PENDING);
+            // References only: neither the project nor the assignee is loaded
+            task.setProject(entityManager.getReference(Project.class, projectId));
+            if (row.getAssigneeId() != null) {
+                task.setAssignee(entityManager.getReference(User.class, row.getAssigneeId()));
+            }
+            entityManager.persist(task);
+            return task;
+        }
+
+        private Optional<UUID> resolveAssignee(TaskImportRow row) {
+            if (row.getAssigneeId() != null) {
+                UUID id = row.getAssigneeId();
+                return assignees.computeIfAbsent(id.toString(),
+                        key -> userRepository.existsById(id) ? Optional.of(id) : Optional.empty());
+            }
+            String email = row.getAssigneeEmail().trim();
+            return assignees.computeIfAbsent(email, userRepository::findIdByEmail);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.marv.taskmaster.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits id lists into bounded chunks for IN (...) clauses.
+ * Oracle rejects IN lists with more than 1000 elements (ORA-01795).
+ */
+public final class Chunks {
+
+    public static final int ORACLE_IN_LIMIT = 1000;
+
+    private Chunks() {
+    }
+
+    public static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,112 @@
+package com.marv.taskmaster.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated, optional double quotes (with "" as an escaped
+ * quote), quoted values may span lines, CRLF or LF record endings.
+ * Reads one record at a time from the underlying reader, so only the current row is in memory.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private int peeked = -2;
+    private long lineNumber = 1;
+
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // Line the next record starts on (1-based), for error messages
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the next record, or null at the end of input.
+     *
+     * @throws IllegalArgumentException on an unterminated quote or a record longer than the limit
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+
+        while (true) {
+            if (++length > maxRecordLength) {
+                throw new IllegalArgumentException("Record on line " + lineNumber + " exceeds " + maxRecordLength + " characters");
+            }
+
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted value starting on line " + lineNumber);
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                values.add(value.toString());
+                break;
+            } else {
+                value.append((char) c);
+            }
+            c = read();
+        }
+
+        lineNumber += countLineBreaks(values) + 1;
+        return values;
+    }
+
+    // --- Private Helpers ---
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    // Quoted values may contain line breaks; keep the line counter in step with the file
+    private long countLineBreaks(List<String> values) {
+        long breaks = 0;
+        for (String value : values) {
+            breaks += value.chars().filter(ch -> ch == '\n').count();
+        }
+        return breaks;
+    }
+}
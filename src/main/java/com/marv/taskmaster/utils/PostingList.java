@@ -0,0 +1,180 @@
+package com.marv.taskmaster.utils;
+
+import java.util.Arrays;
+
+/**
+ * Sorted list of int document ids, stored in blocks of {@value #BLOCK_SIZE} variable-length
+ * (LEB128) deltas.
+ * <p>
+ * Ids must be appended in increasing order, which holds for an index that hands out
+ * ids sequentially. Dense lists take about one byte per entry instead of four. The first id
+ * and byte offset of every block are kept aside as skip data, so a {@link Cursor} can jump to
+ * the block holding a given id and decode only that block instead of the whole list.
+ * Not thread-safe; callers guard it with their partition lock.
+ */
+public final class PostingList {
+
+    public static final int BLOCK_SIZE = 128;
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    // Skip data: first id of each block (not in the byte stream) and where its deltas start
+    private int[] blockFirst = new int[1];
+    private int[] blockOffset = new int[1];
+    private int blocks;
+
+    public void add(int docId) {
+        if (docId <= last) {
+            throw new IllegalArgumentException("Doc ids must be appended in increasing order");
+        }
+
+        if (size % BLOCK_SIZE == 0) {
+            startBlock(docId);
+        } else {
+            int delta = docId - last;
+            ensureCapacity(5);
+            while ((delta & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes[length++] = (byte) delta;
+        }
+
+        last = docId;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int[] toArray() {
+        int[] docIds = new int[size];
+        for (int block = 0; block < blocks; block++) {
+            decodeBlock(block, docIds, block * BLOCK_SIZE);
+        }
+        return docIds;
+    }
+
+    /**
+     * Cursor walking the list from its largest id down.
+     */
+    public Cursor reverseCursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Descending cursor over a posting list. Holds one decoded block at a time; blocks that
+     * lie entirely above a seek target are skipped without being decoded.
+     */
+    public final class Cursor {
+
+        private final int[] buffer = new int[BLOCK_SIZE];
+        private int block = blocks; // blocks = not started, -1 = exhausted
+        private int position;
+        private int decodedEntries;
+
+        private Cursor() {
+        }
+
+        /**
+         * Largest remaining id that is less than or equal to {@code target}, or -1 if there is none.
+         * Ids above the target are passed over; the returned id stays current, so seeking
+         * again with the same or a higher target returns it again. Targets must not increase
+         * past a returned id to reach ids that were passed over.
+         */
+        public int seek(int target) {
+            if (block < 0 || target < 0) {
+                return -1;
+            }
+
+            if (block == blocks || buffer[0] > target) {
+                // Last block before the current one that starts at or below the target
+                int found = lastBlockStartingAtOrBelow(target, block - 1);
+                if (found < 0) {
+                    block = -1;
+                    return -1;
+                }
+                block = found;
+                int count = decodeBlock(found, buffer, 0);
+                decodedEntries += count;
+                position = count - 1;
+            }
+
+            // buffer[0] <= target, so this stops inside the block
+            while (buffer[position] > target) {
+                position--;
+            }
+            return buffer[position];
+        }
+
+        /**
+         * How many ids this cursor has decoded so far, i.e. the work done beyond the skip data.
+         */
+        public int decodedEntries() {
+            return decodedEntries;
+        }
+
+        private int lastBlockStartingAtOrBelow(int target, int highBlock) {
+            int low = 0;
+            int high = highBlock;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (blockFirst[mid] <= target) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+
+    // --- Private Helpers ---
+
+    private void startBlock(int docId) {
+        if (blocks == blockFirst.length) {
+            blockFirst = Arrays.copyOf(blockFirst, blocks * 2);
+            blockOffset = Arrays.copyOf(blockOffset, blocks * 2);
+        }
+        blockFirst[blocks] = docId;
+        blockOffset[blocks] = length;
+        blocks++;
+    }
+
+    // Writes the ids of one block into target from index start, returns how many there are
+    private int decodeBlock(int block, int[] target, int start) {
+        int count = Math.min(BLOCK_SIZE, size - block * BLOCK_SIZE);
+        int pos = blockOffset[block];
+        int current = blockFirst[block];
+        target[start] = current;
+        for (int i = 1; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            current += delta;
+            target[start + i] = current;
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+}
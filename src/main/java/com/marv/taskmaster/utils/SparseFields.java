@@ -0,0 +1,91 @@
+package com.marv.taskmaster.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Catalogue of the fields a list endpoint accepts in its {@code fields=} parameter.
+ * <p>
+ * Each field names the entity attribute paths it reads (so only those columns are selected)
+ * and how their values become the JSON value. Most fields are a single attribute; composite
+ * ones such as a full name combine several.
+ */
+public final class SparseFields {
+
+    /**
+     * One selectable field: the attribute paths it needs (e.g. "assignee.firstname")
+     * and the function that turns their values, in the same order, into the output value.
+     */
+    public record Field(String name, List<String> paths, Function<Object[], Object> value) {
+    }
+
+    private final Map<String, Field> fields;
+
+    private SparseFields(Map<String, Field> fields) {
+        this.fields = fields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parses a comma separated {@code fields=} value, keeping the requested order.
+     */
+    public List<Field> select(String fieldsParam) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fieldsParam.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested. Allowed: " + fields.keySet());
+        }
+
+        List<Field> selected = new ArrayList<>(names.size());
+        for (String name : names) {
+            Field field = fields.get(name);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'. Allowed: " + fields.keySet());
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+
+        // Field exposed under the attribute's own name
+        public Builder field(String name) {
+            return field(name, name);
+        }
+
+        public Builder field(String name, String path) {
+            return field(name, List.of(path), values -> values[0]);
+        }
+
+        public Builder field(String name, List<String> paths, Function<Object[], Object> value) {
+            fields.put(name, new Field(name, List.copyOf(paths), value));
+            return this;
+        }
+
+        public Builder fields(String... names) {
+            Arrays.stream(names).forEach(this::field);
+            return this;
+        }
+
+        public SparseFields build() {
+            return new SparseFields(Collections.unmodifiableMap(new LinkedHashMap<>(fields)));
+        }
+    }
+}
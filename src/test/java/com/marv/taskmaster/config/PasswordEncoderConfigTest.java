@@ -0,0 +1,29 @@
+package com.marv.taskmaster.config;
+
+import com.marv.taskmaster.config.crypto.BoundedPasswordEncoder;
+import com.marv.taskmaster.support.H2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderConfigTest extends H2IntegrationTest {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${security.password.bcrypt-strength}")
+    private int bcryptStrength;
+
+    @Test
+    void hashesOnTheBoundedPoolWithTheConfiguredStrength() {
+        String hash = passwordEncoder.encode("correct horse battery staple");
+
+        assertThat(passwordEncoder).isInstanceOf(BoundedPasswordEncoder.class);
+        // BCrypt hashes carry their log rounds: $2a$10$...
+        assertThat(hash).startsWith(String.format("$2a$%02d$", bcryptStrength));
+        assertThat(passwordEncoder.matches("correct horse battery staple", hash)).isTrue();
+    }
+}
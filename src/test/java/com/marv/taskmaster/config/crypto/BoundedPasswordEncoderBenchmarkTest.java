@@ -0,0 +1,78 @@
+package com.marv.taskmaster.config.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hashing throughput through the bounded pool at the BCrypt strengths worth considering
+ * for security.password.bcrypt-strength. Each step of 2 should cost about 4x the throughput.
+ * <p>
+ * Wall-clock based, so it is left out of the regular build; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class BoundedPasswordEncoderBenchmarkTest {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    @Test
+    void hashesPerSecondDropWithStrength() throws Exception {
+        Map<Integer, Double> hashesPerSecond = new LinkedHashMap<>();
+        // Fewer hashes at the expensive strengths keep the run to a few seconds
+        hashesPerSecond.put(10, measure(10, THREADS * 16));
+        hashesPerSecond.put(12, measure(12, THREADS * 4));
+        hashesPerSecond.put(14, measure(14, THREADS));
+
+        hashesPerSecond.forEach((strength, rate) ->
+                log.info("BCrypt strength {}: {} hashes/s on {} threads", strength, String.format("%.1f", rate), THREADS));
+        assertThat(hashesPerSecond.get(10)).isGreaterThan(hashesPerSecond.get(12));
+        assertThat(hashesPerSecond.get(12)).isGreaterThan(hashesPerSecond.get(14));
+        // 16x in theory; 4x leaves room for noise
+        assertThat(hashesPerSecond.get(10)).isGreaterThan(hashesPerSecond.get(14) * 4);
+    }
+
+    // --- Private Helpers ---
+
+    private double measure(int strength, int hashes) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), THREADS, THREADS, registry);
+        // One caller per worker, so the queue never overflows into 429s
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        try {
+            String hash = encoder.encode("warm-up-password");
+            assertThat(encoder.matches("warm-up-password", hash)).isTrue();
+
+            long start = System.nanoTime();
+            List<Future<String>> results = new ArrayList<>(hashes);
+            for (int i = 0; i < hashes; i++) {
+                String password = "password-" + i;
+                results.add(callers.submit(() -> encoder.encode(password)));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).startsWith("$2a$" + strength + "$");
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(registry.get("password.hashing.latency").timer().count()).isEqualTo(hashes + 2L);
+            assertThat(registry.get("password.hashing.rejected").counter().count()).isZero();
+            return hashes / seconds;
+        } finally {
+            callers.shutdownNow();
+            encoder.shutdown();
+        }
+    }
+}
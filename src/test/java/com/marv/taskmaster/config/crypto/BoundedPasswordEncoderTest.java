@@ -0,0 +1,73 @@
+package com.marv.taskmaster.config.crypto;
+
+import com.marv.taskmaster.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void rejectsWithTooManyRequestsOnceWorkersAndQueueAreFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder(release), 1, 1, registry);
+        try {
+            // One hash on the only worker, one waiting in the queue
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+            awaitGauge(registry, "password.hashing.active", 1);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+            awaitGauge(registry, "password.hashing.queue.depth", 1);
+
+            assertThatThrownBy(() -> encoder.matches("third", "hash:third"))
+                    .isInstanceOf(TooManyRequestsException.class);
+            assertThat(registry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:second");
+            assertThat(registry.get("password.hashing.latency").timer().count()).isEqualTo(2);
+            assertThat(registry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            encoder.shutdown();
+        }
+    }
+
+    // --- Private Helpers ---
+
+    // Encodes to "hash:<raw>", but only once the latch is released
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private static void awaitGauge(SimpleMeterRegistry registry, String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (registry.get(name).gauge().value() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(registry.get(name).gauge().value()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,136 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.dto.request.project.UpdateProjectRequest;
+import com.marv.taskmaster.models.dto.request.task.BulkCreateTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.CreateTaskRequest;
+import com.marv.taskmaster.models.dto.response.task.TaskResponse;
+import com.marv.taskmaster.models.entities.Project;
+import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.enums.ProjectStatus;
+import com.marv.taskmaster.models.enums.TaskStatus;
+import com.marv.taskmaster.repositories.ProjectRepository;
+import com.marv.taskmaster.support.H2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parallel writes through the @Retryable service proxies: callers that lose an optimistic-lock
+ * race must be retried in a fresh transaction and succeed, and the project counters must end
+ * up exact.
+ */
+class ConcurrentWriteRetryTest extends H2IntegrationTest {
+
+    private static final int TASKS = 16;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void concurrentMarkTaskAsDoneKeepsCountersExact() throws Exception {
+        User user = signInNewUser();
+        UUID projectId = createProject();
+        List<UUID> taskIds = createTasks(projectId);
+
+        // Every task is completed by two callers at once; the loser of each pair is retried
+        List<Callable<TaskResponse>> calls = new ArrayList<>();
+        for (UUID taskId : taskIds) {
+            calls.add(() -> taskService.markTaskAsDone(projectId, taskId));
+            calls.add(() -> taskService.markTaskAsDone(projectId, taskId));
+        }
+
+        for (TaskResponse response : runConcurrently(user, calls)) {
+            assertThat(response.getStatus()).isEqualTo(TaskStatus.COMPLETED.name());
+        }
+
+        Project project = projectRepository.findById(projectId).orElseThrow();
+        assertThat(project.getPendingTasks()).isZero();
+        assertThat(project.getInProgressTasks()).isZero();
+        assertThat(project.getCompletedTasks()).isEqualTo(TASKS);
+        assertThat(project.getCancelledTasks()).isZero();
+        assertThat(project.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+    }
+
+    @Test
+    void concurrentUpdateProjectAllSucceedThroughRetries() throws Exception {
+        User user = signInNewUser();
+        UUID projectId = createProject();
+        long versionBefore = projectRepository.findById(projectId).orElseThrow().getVersion();
+
+        // As many writers as attempts: each failure means another writer committed, so every one gets through
+        int writers = 4;
+        List<Callable<Object>> calls = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            UpdateProjectRequest request = new UpdateProjectRequest();
+            request.setName("Renamed " + UUID.randomUUID());
+            request.setDescription("Writer " + i);
+            names.add(request.getName());
+            calls.add(() -> projectService.updateProject(projectId, request));
+        }
+
+        assertThat(runConcurrently(user, calls)).hasSize(writers);
+
+        Project project = projectRepository.findById(projectId).orElseThrow();
+        assertThat(project.getVersion()).isEqualTo(versionBefore + writers);
+        assertThat(names).contains(project.getName());
+    }
+
+    // --- Private Helpers ---
+
+    private List<UUID> createTasks(UUID projectId) {
+        List<CreateTaskRequest> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            CreateTaskRequest task = new CreateTaskRequest();
+            task.setTitle("Task " + i);
+            tasks.add(task);
+        }
+        BulkCreateTaskRequest request = new BulkCreateTaskRequest();
+        request.setTasks(tasks);
+        return taskService.createTasks(projectId, request).stream().map(TaskResponse::getId).toList();
+    }
+
+    // Starts every call at the same moment, each on its own thread signed in as the user
+    private <T> List<T> runConcurrently(User user, List<Callable<T>> calls) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>(calls.size());
+            for (Callable<T> call : calls) {
+                futures.add(pool.submit(() -> {
+                    signIn(user);
+                    try {
+                        start.await();
+                        return call.call();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS)); // any exception that escaped the retries fails here
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
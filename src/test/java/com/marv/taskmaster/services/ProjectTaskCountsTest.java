@@ -0,0 +1,96 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.dto.request.task.AssignTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.BulkCreateTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.CreateTaskRequest;
+import com.marv.taskmaster.models.dto.response.project.ProjectResponse;
+import com.marv.taskmaster.models.dto.response.project.TaskCountsResponse;
+import com.marv.taskmaster.models.dto.response.task.TaskResponse;
+import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.enums.PageTotalMode;
+import com.marv.taskmaster.models.enums.TaskStatus;
+import com.marv.taskmaster.repositories.TaskRepository;
+import com.marv.taskmaster.support.H2IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The task counts in project responses come from the counter columns on the project, not from
+ * counting the tasks. After every kind of task write they must still equal a live count of the rows.
+ */
+class ProjectTaskCountsTest extends H2IntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void countsMatchTheTaskRowsAfterEveryWrite() {
+        User user = signInNewUser();
+        UUID projectId = createProject();
+        assertCountsMatchRows(projectId);
+
+        BulkCreateTaskRequest bulk = new BulkCreateTaskRequest();
+        bulk.setTasks(newTasks(6, null));
+        List<UUID> ids = taskService.createTasks(projectId, bulk).stream().map(TaskResponse::getId).toList();
+        CreateTaskRequest single = new CreateTaskRequest();
+        single.setTitle("Single");
+        UUID singleId = taskService.createTask(projectId, single).getId();
+        assertCountsMatchRows(projectId);
+
+        AssignTaskRequest assign = new AssignTaskRequest();
+        assign.setAssigneeId(user.getId());
+        taskService.assignTask(projectId, ids.get(0), assign); // PENDING -> IN_PROGRESS
+        assertCountsMatchRows(projectId);
+
+        taskService.markTaskAsDone(projectId, ids.get(0));
+        taskService.completeTasks(projectId, List.of(ids.get(1), ids.get(2)));
+        assertCountsMatchRows(projectId);
+
+        taskService.cancelTask(projectId, ids.get(3));
+        taskService.cancelTasks(projectId, List.of(ids.get(4)));
+        assertCountsMatchRows(projectId);
+
+        taskService.deleteTasks(projectId, List.of(ids.get(1), ids.get(3), singleId));
+        assertCountsMatchRows(projectId);
+
+        TaskCountsResponse counts = projectService.getProjectById(projectId, false).getTaskCounts();
+        assertThat(counts.getPending()).isEqualTo(1);
+        assertThat(counts.getCompleted()).isEqualTo(2);
+        assertThat(counts.getCancelled()).isEqualTo(1);
+        assertThat(counts.getTotal()).isEqualTo(4);
+    }
+
+    // --- Private Helpers ---
+
+    // Both the single project and the project list, against a COUNT per status
+    private void assertCountsMatchRows(UUID projectId) {
+        TaskCountsResponse expected = TaskCountsResponse.builder()
+                .pending(countRows(projectId, TaskStatus.PENDING))
+                .inProgress(countRows(projectId, TaskStatus.IN_PROGRESS))
+                .completed(countRows(projectId, TaskStatus.COMPLETED))
+                .cancelled(countRows(projectId, TaskStatus.CANCELLED))
+                .total(taskRepository.countByProjectId(projectId))
+                .build();
+
+        assertThat(projectService.getProjectById(projectId, false).getTaskCounts()).isEqualTo(expected);
+        ProjectResponse listed = projectService.getMyProjects(PageRequest.ofSize(20), PageTotalMode.NONE, false)
+                .getContent().stream()
+                .filter(project -> project.getId().equals(projectId))
+                .findFirst()
+                .orElseThrow();
+        assertThat(listed.getTaskCounts()).isEqualTo(expected);
+    }
+
+    private long countRows(UUID projectId, TaskStatus status) {
+        return taskRepository.countByProjectAndStatusIn(projectId, List.of(status));
+    }
+}
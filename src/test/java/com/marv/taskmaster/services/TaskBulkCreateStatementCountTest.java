@@ -0,0 +1,62 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.dto.request.task.BulkCreateTaskRequest;
+import com.marv.taskmaster.models.dto.request.task.CreateTaskRequest;
+import com.marv.taskmaster.support.H2IntegrationTest;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * N single createTask calls against one createTasks call with the same N tasks.
+ * A single create prepares 4 statements: the project check, the INSERT, the counter UPDATE
+ * and the conditional reopen. The bulk call prepares those 4 once: its INSERTs share one
+ * prepared statement sent as JDBC batches (hibernate.jdbc.batch_size). Without batching it
+ * would prepare one INSERT per task.
+ */
+class TaskBulkCreateStatementCountTest extends H2IntegrationTest {
+
+    private static final long STATEMENTS_PER_CREATE = 4;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    // One full batch, and two batches through the same prepared statement
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void bulkCreatePreparesTheSameStatementsAsOneSingleCreate(int batches) {
+        int taskCount = batches * batchSize;
+        signInNewUser();
+        UUID singleProjectId = createProject();
+        UUID bulkProjectId = createProject();
+        Statistics statistics = statistics();
+
+        long insertsBefore = statistics.getEntityInsertCount();
+        long single = countStatements(() -> {
+            for (CreateTaskRequest task : newTasks(taskCount, null)) {
+                taskService.createTask(singleProjectId, task);
+            }
+        });
+        assertThat(statistics.getEntityInsertCount() - insertsBefore).isEqualTo(taskCount);
+
+        insertsBefore = statistics.getEntityInsertCount();
+        long bulk = countStatements(() -> {
+            BulkCreateTaskRequest request = new BulkCreateTaskRequest();
+            request.setTasks(newTasks(taskCount, null));
+            assertThat(taskService.createTasks(bulkProjectId, request)).hasSize(taskCount);
+        });
+        assertThat(statistics.getEntityInsertCount() - insertsBefore).isEqualTo(taskCount);
+
+        assertThat(single).isEqualTo(STATEMENTS_PER_CREATE * taskCount);
+        assertThat(bulk).isEqualTo(STATEMENTS_PER_CREATE);
+    }
+}
@@ -0,0 +1,63 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.dto.request.task.BulkCreateTaskRequest;
+import com.marv.taskmaster.models.dto.response.task.TaskResponse;
+import com.marv.taskmaster.models.enums.ProjectStatus;
+import com.marv.taskmaster.support.H2IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cancelling the last open task closes the project, whether it goes through the single or the
+ * bulk endpoint.
+ */
+class TaskCancelCompletesProjectTest extends H2IntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    private UUID projectId;
+    private UUID doneTaskId;
+    private UUID openTaskId;
+
+    @BeforeEach
+    void createProjectWithOneOpenTask() {
+        signInNewUser();
+        projectId = createProject();
+
+        BulkCreateTaskRequest request = new BulkCreateTaskRequest();
+        request.setTasks(newTasks(2, null));
+        List<TaskResponse> tasks = taskService.createTasks(projectId, request);
+        doneTaskId = tasks.get(0).getId();
+        openTaskId = tasks.get(1).getId();
+
+        taskService.markTaskAsDone(projectId, doneTaskId);
+        assertThat(projectStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void cancelTaskCompletesTheProject() {
+        taskService.cancelTask(projectId, openTaskId);
+
+        assertThat(projectStatus()).isEqualTo(ProjectStatus.COMPLETED);
+    }
+
+    @Test
+    void cancelTasksCompletesTheProject() {
+        taskService.cancelTasks(projectId, List.of(openTaskId));
+
+        assertThat(projectStatus()).isEqualTo(ProjectStatus.COMPLETED);
+    }
+
+    // --- Private Helpers ---
+
+    private ProjectStatus projectStatus() {
+        return projectService.getProjectById(projectId, false).getStatus();
+    }
+}
@@ -0,0 +1,71 @@
+package com.marv.taskmaster.services;
+
+import com.marv.taskmaster.models.dto.request.task.BulkCreateTaskRequest;
+import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.enums.PageTotalMode;
+import com.marv.taskmaster.support.H2IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The task list endpoints must run a fixed number of statements per request, whatever the
+ * page size: no lazy assignee/project loads per row.
+ */
+class TaskQueryStatementCountTest extends H2IntegrationTest {
+
+    private static final int TASKS = 60;
+    private static final int SMALL_PAGE = 5;
+    private static final int LARGE_PAGE = 50;
+
+    @Autowired
+    private TaskService taskService;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void createAssignedTasks() {
+        User user = signInNewUser();
+        projectId = createProject();
+
+        BulkCreateTaskRequest request = new BulkCreateTaskRequest();
+        request.setTasks(newTasks(TASKS, user));
+        taskService.createTasks(projectId, request);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PageTotalMode.class, names = {"EXACT", "NONE"})
+    void getTasksByProjectStatementsDoNotGrowWithPageSize(PageTotalMode totalMode) {
+        taskService.getTasksByProject(projectId, null, PageRequest.ofSize(SMALL_PAGE), totalMode); // warm-up
+
+        long small = countStatements(() -> assertThat(
+                taskService.getTasksByProject(projectId, null, PageRequest.ofSize(SMALL_PAGE), totalMode).getContent())
+                .hasSize(SMALL_PAGE));
+        long large = countStatements(() -> assertThat(
+                taskService.getTasksByProject(projectId, null, PageRequest.ofSize(LARGE_PAGE), totalMode).getContent())
+                .hasSize(LARGE_PAGE));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PageTotalMode.class, names = {"EXACT", "NONE"})
+    void getMyAssignedTasksStatementsDoNotGrowWithPageSize(PageTotalMode totalMode) {
+        taskService.getMyAssignedTasks(PageRequest.ofSize(SMALL_PAGE), totalMode); // warm-up
+
+        long small = countStatements(() -> assertThat(
+                taskService.getMyAssignedTasks(PageRequest.ofSize(SMALL_PAGE), totalMode).getContent())
+                .hasSize(SMALL_PAGE));
+        long large = countStatements(() -> assertThat(
+                taskService.getMyAssignedTasks(PageRequest.ofSize(LARGE_PAGE), totalMode).getContent())
+                .hasSize(LARGE_PAGE));
+
+        assertThat(large).isEqualTo(small);
+    }
+}
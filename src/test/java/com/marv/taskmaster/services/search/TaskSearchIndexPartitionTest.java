@@ -0,0 +1,93 @@
+package com.marv.taskmaster.services.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchIndexPartitionTest {
+
+    @Test
+    void searchReturnsNewestMatchesFirstUpToTheLimit() {
+        Random random = new Random(7);
+        TaskSearchIndex.Partition partition = new TaskSearchIndex.Partition();
+        List<UUID> tasks = new ArrayList<>();
+        List<Set<String>> termsByTask = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            Set<String> terms = new HashSet<>();
+            for (String term : List.of("alpha", "beta", "gamma", "delta")) {
+                if (random.nextInt(3) == 0) {
+                    terms.add(term);
+                }
+            }
+            UUID taskId = UUID.randomUUID();
+            tasks.add(taskId);
+            termsByTask.add(terms);
+            partition.put(taskId, i, () -> terms);
+        }
+        // Tombstones in the middle of the lists
+        for (int i = 0; i < tasks.size(); i += 5) {
+            partition.remove(tasks.get(i));
+        }
+
+        Set<String> query = Set.of("alpha", "gamma");
+        List<UUID> expected = new ArrayList<>();
+        for (int i = tasks.size() - 1; i >= 0 && expected.size() < 50; i--) {
+            if (i % 5 != 0 && termsByTask.get(i).containsAll(query)) {
+                expected.add(tasks.get(i));
+            }
+        }
+
+        assertThat(partition.search(query, 50)).containsExactlyElementsOf(expected);
+        assertThat(partition.search(Set.of("alpha", "missing"), 50)).isEmpty();
+    }
+
+    @Test
+    void putSkipsTasksWhoseTextDidNotChange() {
+        TaskSearchIndex.Partition partition = new TaskSearchIndex.Partition();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        long firstHash = TaskSearchIndex.textHash("Write report", null);
+
+        assertThat(partition.put(first, firstHash, () -> Set.of("write", "report"))).isTrue();
+        assertThat(partition.put(second, TaskSearchIndex.textHash("Read report", null), () -> Set.of("read", "report"))).isTrue();
+
+        // Same text again (e.g. polled from the database): no new doc, order unchanged
+        assertThat(partition.put(first, firstHash, () -> {
+            throw new AssertionError("terms must not be recomputed");
+        })).isFalse();
+        assertThat(partition.search(Set.of("report"), 10)).containsExactly(second, first);
+
+        // Changed text moves the task to the newest position
+        assertThat(partition.put(first, TaskSearchIndex.textHash("Write report v2", null), () -> Set.of("write", "report", "v2"))).isTrue();
+        assertThat(partition.search(Set.of("report"), 10)).containsExactly(first, second);
+    }
+
+    @Test
+    void searchFindsTheNewestMatchesInALargePartition() {
+        // A common term (every 2nd task) and a rarer one (every 100th); how much of the lists the
+        // cursors decode is covered by PostingListTest
+        int docs = 500_000;
+        TaskSearchIndex.Partition partition = new TaskSearchIndex.Partition();
+        Set<String> both = Set.of("common", "rare");
+        Set<String> commonOnly = Set.of("common");
+        Set<String> none = Set.of();
+        for (int i = 0; i < docs; i++) {
+            boolean isCommon = i % 2 == 0;
+            boolean isRare = i % 100 == 0;
+            partition.put(new UUID(0, i), i, () -> isRare ? both : isCommon ? commonOnly : none);
+        }
+
+        List<UUID> expected = new ArrayList<>();
+        for (int i = docs - 100; expected.size() < 20; i -= 100) {
+            expected.add(new UUID(0, i));
+        }
+        assertThat(partition.search(both, 20)).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,110 @@
+package com.marv.taskmaster.support;
+
+import com.marv.taskmaster.models.dto.request.project.CreateProjectRequest;
+import com.marv.taskmaster.models.dto.request.task.CreateTaskRequest;
+import com.marv.taskmaster.models.entities.User;
+import com.marv.taskmaster.models.security.CustomUserDetails;
+import com.marv.taskmaster.repositories.UserRepository;
+import com.marv.taskmaster.services.ProjectService;
+import com.marv.taskmaster.services.search.TaskSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base of the tests that run the services against the in-memory database (profile "h2").
+ * The Spring context, and with it the database, is shared by all subclasses, so every test
+ * works on its own freshly signed-up user and projects.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+public abstract class H2IntegrationTest {
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected ProjectService projectService;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // The startup rebuild of the search index runs on its own thread; keep it out of the measurements
+    @BeforeEach
+    void awaitSearchIndex() throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (taskSearchIndex.search(UUID.randomUUID(), "ready", 1).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    protected User createUser() {
+        User user = new User();
+        user.setFirstname("Test");
+        user.setLastname("User");
+        user.setEmail("user-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("not-a-real-hash");
+        return userRepository.save(user);
+    }
+
+    // Authenticates the current thread as the user, like the JWT filter does
+    protected void signIn(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), null, List.of()));
+    }
+
+    protected User signInNewUser() {
+        User user = createUser();
+        signIn(user);
+        return user;
+    }
+
+    protected UUID createProject() {
+        CreateProjectRequest request = new CreateProjectRequest();
+        request.setName("Project " + UUID.randomUUID());
+        return projectService.createProject(request).getId();
+    }
+
+    // "Task 0".."Task n-1", assigned to the given user (or nobody)
+    protected static List<CreateTaskRequest> newTasks(int count, User assignee) {
+        List<CreateTaskRequest> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CreateTaskRequest task = new CreateTaskRequest();
+            task.setTitle("Task " + i);
+            task.setAssigneeId(assignee != null ? assignee.getId() : null);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    protected Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // JDBC statements prepared while the work runs
+    protected long countStatements(Runnable work) {
+        Statistics statistics = statistics();
+        long before = statistics.getPrepareStatementCount();
+        work.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
@@ -0,0 +1,86 @@
+package com.marv.taskmaster.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    void toArrayReturnsIdsAcrossBlockBoundaries() {
+        PostingList list = new PostingList();
+        int[] expected = new int[PostingList.BLOCK_SIZE * 3 + 7];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 300; // deltas that need two LEB128 bytes
+            list.add(expected[i]);
+        }
+
+        assertThat(list.size()).isEqualTo(expected.length);
+        assertThat(list.toArray()).containsExactly(expected);
+    }
+
+    @Test
+    void reverseCursorSeeksLikeTreeSetFloor() {
+        Random random = new Random(42);
+        TreeSet<Integer> ids = new TreeSet<>();
+        PostingList list = new PostingList();
+        int id = 0;
+        for (int i = 0; i < 5_000; i++) {
+            id += 1 + random.nextInt(50);
+            ids.add(id);
+            list.add(id);
+        }
+
+        PostingList.Cursor cursor = list.reverseCursor();
+        int target = id + 10;
+        while (true) {
+            Integer expected = ids.floor(target);
+            int found = cursor.seek(target);
+            if (expected == null) {
+                assertThat(found).isEqualTo(-1);
+                break;
+            }
+            assertThat(found).isEqualTo(expected);
+            target = found - 1 - random.nextInt(400); // jumps over whole blocks now and then
+        }
+    }
+
+    @Test
+    void seekingTheSameTargetAgainReturnsTheCurrentId() {
+        PostingList list = new PostingList();
+        list.add(3);
+        list.add(10);
+
+        PostingList.Cursor cursor = list.reverseCursor();
+        assertThat(cursor.seek(9)).isEqualTo(3);
+        assertThat(cursor.seek(9)).isEqualTo(3);
+        assertThat(cursor.seek(2)).isEqualTo(-1);
+        assertThat(new PostingList().reverseCursor().seek(Integer.MAX_VALUE)).isEqualTo(-1);
+    }
+
+    @Test
+    void seekDecodesOnlyTheBlocksItLandsIn() {
+        // A common term (every 2nd doc) intersected with a rarer one (every 100th), 20 hits wanted
+        int docs = 500_000;
+        PostingList common = new PostingList();
+        for (int i = 0; i < docs; i += 2) {
+            common.add(i);
+        }
+
+        PostingList.Cursor cursor = common.reverseCursor();
+        int hits = 0;
+        for (int rare = docs - 100; hits < 20; rare -= 100) {
+            if (cursor.seek(rare) == rare) {
+                hits++;
+            }
+        }
+
+        // The 20 hits span 2,000 ids = 1,000 common entries; allow one partial block at each end
+        assertThat(hits).isEqualTo(20);
+        assertThat(cursor.decodedEntries()).isLessThanOrEqualTo(1_000 + 2 * PostingList.BLOCK_SIZE);
+        assertThat(common.size()).isEqualTo(docs / 2);
+    }
+}